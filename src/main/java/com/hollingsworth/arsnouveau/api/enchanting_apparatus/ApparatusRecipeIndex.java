@@ -0,0 +1,142 @@
+package com.hollingsworth.arsnouveau.api.enchanting_apparatus;
+
+import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import com.hollingsworth.arsnouveau.common.block.tile.EnchantingApparatusTile;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Lookup of enchanting apparatus recipes by reagent item and number of pedestal items.
+ * Plain {@link EnchantingApparatusRecipe}s are filed under every item their reagent accepts, while subclasses with their
+ * own reagent checks, like enchantments, are candidates for any reagent. Recipes made of single-item ingredients also
+ * keep the multiset of their pedestal items, so a wrong set of pedestal items is rejected without running the matcher.
+ * An index is built per recipe manager, so it is rebuilt after a datapack reload, or when recipes are added to the API.
+ */
+public class ApparatusRecipeIndex {
+
+    // Client and server recipe managers both live here in singleplayer.
+    private static final Map<RecipeManager, ApparatusRecipeIndex> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Bucket for recipes that are not {@link EnchantingApparatusRecipe}s, whose pedestal count is unknown.
+     */
+    private static final int ANY_SIZE = -1;
+
+    private final int apiRecipeCount;
+    private final Map<Item, Int2ObjectMap<List<Entry>>> byReagent = new HashMap<>();
+    private final Int2ObjectMap<List<Entry>> anyReagent = new Int2ObjectOpenHashMap<>();
+
+    private ApparatusRecipeIndex(World world){
+        apiRecipeCount = ArsNouveauAPI.getInstance().getEnchantingApparatusRecipes().size();
+        List<IEnchantingRecipe> recipes = ArsNouveauAPI.getInstance().getEnchantingApparatusRecipes(world);
+        for(int i = 0; i < recipes.size(); i++){
+            IEnchantingRecipe recipe = recipes.get(i);
+            if(!(recipe instanceof EnchantingApparatusRecipe)){
+                add(anyReagent, ANY_SIZE, new Entry(i, recipe, null));
+                continue;
+            }
+            EnchantingApparatusRecipe apparatusRecipe = (EnchantingApparatusRecipe) recipe;
+            Entry entry = new Entry(i, recipe, itemMultiset(apparatusRecipe.pedestalItems));
+            int size = apparatusRecipe.pedestalItems.size();
+            if(recipe.getClass() != EnchantingApparatusRecipe.class){
+                add(anyReagent, size, entry);
+                continue;
+            }
+            for(ItemStack stack : apparatusRecipe.reagent.getItems()){
+                Int2ObjectMap<List<Entry>> bySize = byReagent.computeIfAbsent(stack.getItem(), k -> new Int2ObjectOpenHashMap<>());
+                List<Entry> list = bySize.get(size);
+                if(list == null || !list.contains(entry))
+                    add(bySize, size, entry);
+            }
+        }
+    }
+
+    public static ApparatusRecipeIndex get(World world){
+        RecipeManager manager = world.getRecipeManager();
+        ApparatusRecipeIndex index = indexes.get(manager);
+        if(index == null || index.apiRecipeCount != ArsNouveauAPI.getInstance().getEnchantingApparatusRecipes().size()){
+            index = new ApparatusRecipeIndex(world);
+            indexes.put(manager, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the first recipe, in the order of {@link ArsNouveauAPI#getEnchantingApparatusRecipes(World)}, that matches.
+     */
+    @Nullable
+    public IEnchantingRecipe getRecipe(List<ItemStack> pedestalItems, ItemStack reagent, EnchantingApparatusTile tile, @Nullable PlayerEntity player){
+        List<ItemStack> filled = new ArrayList<>();
+        Map<Item, Integer> counts = new HashMap<>();
+        for(ItemStack stack : pedestalItems){
+            if(stack.isEmpty())
+                continue;
+            filled.add(stack);
+            counts.merge(stack.getItem(), 1, Integer::sum);
+        }
+        int size = filled.size();
+
+        List<Entry> candidates = new ArrayList<>();
+        Int2ObjectMap<List<Entry>> bySize = byReagent.get(reagent.getItem());
+        if(bySize != null)
+            candidates.addAll(bySize.getOrDefault(size, Collections.emptyList()));
+        candidates.addAll(anyReagent.getOrDefault(size, Collections.emptyList()));
+        candidates.addAll(anyReagent.getOrDefault(ANY_SIZE, Collections.emptyList()));
+        candidates.sort(Comparator.comparingInt(e -> e.order));
+
+        for(Entry entry : candidates){
+            if(entry.items != null && !entry.items.equals(counts))
+                continue;
+            if(entry.recipe.isMatch(pedestalItems, reagent, tile, player))
+                return entry.recipe;
+        }
+        return null;
+    }
+
+    /**
+     * Returns how many of each item the ingredients need, or null if an ingredient accepts more than one item or
+     * looks at more than the item.
+     */
+    @Nullable
+    private static Map<Item, Integer> itemMultiset(List<Ingredient> ingredients){
+        Map<Item, Integer> counts = new HashMap<>();
+        for(Ingredient ingredient : ingredients){
+            ItemStack[] stacks = ingredient.getItems();
+            if(!ingredient.isSimple() || stacks.length != 1)
+                return null;
+            counts.merge(stacks[0].getItem(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static void add(Int2ObjectMap<List<Entry>> map, int size, Entry entry){
+        map.computeIfAbsent(size, k -> new ArrayList<>()).add(entry);
+    }
+
+    private static class Entry{
+        final int order;
+        final IEnchantingRecipe recipe;
+        @Nullable final Map<Item, Integer> items;
+
+        Entry(int order, IEnchantingRecipe recipe, @Nullable Map<Item, Integer> items){
+            this.order = order;
+            this.recipe = recipe;
+            this.items = items;
+        }
+    }
+}
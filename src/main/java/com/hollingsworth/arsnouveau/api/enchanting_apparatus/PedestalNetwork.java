@@ -0,0 +1,88 @@
+package com.hollingsworth.arsnouveau.api.enchanting_apparatus;
+
+import com.hollingsworth.arsnouveau.common.block.tile.ArcanePedestalTile;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-world registry of loaded arcane pedestals, bucketed by chunk.
+ * Pedestals join when they load and leave when they are removed or their chunk unloads, see {@link ArcanePedestalTile}.
+ * Every join and leave bumps {@link #getVersion()}, so an apparatus can keep its pedestal list until the version changes.
+ */
+public class PedestalNetwork {
+
+    // Client and server worlds share this map in singleplayer.
+    private static final Map<IWorld, PedestalNetwork> networks = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Long2ObjectMap<List<ArcanePedestalTile>> chunkMap = new Long2ObjectOpenHashMap<>();
+    private int version;
+
+    public static PedestalNetwork get(IWorld world){
+        return networks.computeIfAbsent(world, w -> new PedestalNetwork());
+    }
+
+    public static void clear(IWorld world){
+        networks.remove(world);
+    }
+
+    public int getVersion(){
+        return version;
+    }
+
+    public void join(ArcanePedestalTile tile){
+        List<ArcanePedestalTile> chunkList = chunkMap.computeIfAbsent(chunkKey(tile.getBlockPos()), k -> new ArrayList<>());
+        if(!chunkList.contains(tile)){
+            chunkList.add(tile);
+            version++;
+        }
+    }
+
+    public void leave(ArcanePedestalTile tile){
+        long key = chunkKey(tile.getBlockPos());
+        List<ArcanePedestalTile> chunkList = chunkMap.get(key);
+        if(chunkList == null || !chunkList.remove(tile))
+            return;
+        version++;
+        if(chunkList.isEmpty())
+            chunkMap.remove(key);
+    }
+
+    /**
+     * Returns the pedestals in the box of the given horizontal and vertical range around pos.
+     */
+    public List<ArcanePedestalTile> getInRange(BlockPos pos, int horizontal, int vertical){
+        List<ArcanePedestalTile> found = new ArrayList<>();
+        int minX = (pos.getX() - horizontal) >> 4;
+        int maxX = (pos.getX() + horizontal) >> 4;
+        int minZ = (pos.getZ() - horizontal) >> 4;
+        int maxZ = (pos.getZ() + horizontal) >> 4;
+        for(int chunkX = minX; chunkX <= maxX; chunkX++){
+            for(int chunkZ = minZ; chunkZ <= maxZ; chunkZ++){
+                List<ArcanePedestalTile> chunkList = chunkMap.get(ChunkPos.asLong(chunkX, chunkZ));
+                if(chunkList == null)
+                    continue;
+                for(ArcanePedestalTile tile : chunkList){
+                    BlockPos other = tile.getBlockPos();
+                    if(!tile.isRemoved() && Math.abs(other.getX() - pos.getX()) <= horizontal
+                            && Math.abs(other.getY() - pos.getY()) <= vertical && Math.abs(other.getZ() - pos.getZ()) <= horizontal){
+                        found.add(tile);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static long chunkKey(BlockPos pos){
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+}
@@ -44,6 +44,18 @@ public class DelayedSpellEvent implements ITimedEvent{
         }
     }
 
+    @Override
+    public void tick(boolean serverSide, int elapsedTicks) {
+        duration -= elapsedTicks - 1;
+        tick(serverSide);
+    }
+
+    @Override
+    public int getWakeDelay(boolean serverSide) {
+        // The server only needs to wake up to resolve, the client draws particles every tick.
+        return serverSide ? Math.max(1, duration) : 1;
+    }
+
     public void resolveSpell(){
         if(world == null)
             return;
@@ -6,36 +6,74 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
  * For queuing deferred or over-time tasks. Tick refers to the Server or Client Tick event.
+ * Events that tick every tick live in a list that is compacted in place as events expire.
+ * Events that declare a longer {@link ITimedEvent#getWakeDelay(boolean)} sleep in a heap keyed on their due tick
+ * and are not touched until then.
  */
 @Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
 public class EventQueue {
     List<ITimedEvent> events;
+    PriorityQueue<SleepingEvent> sleeping;
+    private long currentTick;
+    private long nextOrder;
 
     public void tick(boolean serverSide){
-        if(events == null || events.isEmpty()) {
+        currentTick++;
+        if(events == null) {
             return;
         }
-
-        List<ITimedEvent> stale = new ArrayList<>();
-        // Enhanced-for or iterator will cause a concurrent modification.
+        // Enhanced-for or iterator will cause a concurrent modification, events may be added while ticking.
+        int kept = 0;
         for(int i = 0; i < events.size(); i++){
             ITimedEvent event = events.get(i);
             if (event.isExpired()) {
-                stale.add(event);
-            } else {
-                event.tick(serverSide);
+                continue;
+            }
+            event.tick(serverSide);
+            int delay = event.getWakeDelay(serverSide);
+            if(delay > 1){
+                sleep(event, delay);
+            }else{
+                events.set(kept++, event);
             }
         }
-        this.events.removeAll(stale);
+        events.subList(kept, events.size()).clear();
+        wakeDueEvents(serverSide);
+    }
+
+    private void wakeDueEvents(boolean serverSide){
+        while(!sleeping.isEmpty() && sleeping.peek().dueTick <= currentTick){
+            SleepingEvent entry = sleeping.poll();
+            ITimedEvent event = entry.event;
+            if(event.isExpired())
+                continue;
+            event.tick(serverSide, (int) (currentTick - entry.lastTick));
+            if(event.isExpired())
+                continue;
+            int delay = event.getWakeDelay(serverSide);
+            if(delay > 1){
+                sleep(event, delay);
+            }else{
+                events.add(event);
+            }
+        }
+    }
+
+    private void sleep(ITimedEvent event, int delay){
+        sleeping.add(new SleepingEvent(event, currentTick + delay, currentTick, nextOrder++));
     }
 
     public void addEvent(ITimedEvent event){
-        if(events == null)
+        if(events == null) {
             events = new ArrayList<>();
+            sleeping = new PriorityQueue<>(SLEEP_ORDER);
+        }
         events.add(event);
     }
 
@@ -55,6 +93,7 @@ public class EventQueue {
     // Tear down on world unload
     public void clear(){
         this.events = null;
+        this.sleeping = null;
     }
 
     // Split these because our integrated servers are CURSED and both tick.
@@ -62,6 +101,23 @@ public class EventQueue {
     private static EventQueue clientQueue;
     private EventQueue(){
         events = new ArrayList<>();
+        sleeping = new PriorityQueue<>(SLEEP_ORDER);
+    }
+
+    private static final Comparator<SleepingEvent> SLEEP_ORDER = Comparator.<SleepingEvent>comparingLong(e -> e.dueTick).thenComparingLong(e -> e.order);
+
+    private static class SleepingEvent{
+        final ITimedEvent event;
+        final long dueTick;
+        final long lastTick;
+        final long order;
+
+        SleepingEvent(ITimedEvent event, long dueTick, long lastTick, long order){
+            this.event = event;
+            this.dueTick = dueTick;
+            this.lastTick = lastTick;
+            this.order = order;
+        }
     }
 
     @SubscribeEvent
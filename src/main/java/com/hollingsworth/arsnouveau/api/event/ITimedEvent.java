@@ -14,6 +14,22 @@ public interface ITimedEvent {
      */
     boolean isExpired();
 
+    /**
+     * The number of ticks until this event next needs to be ticked, checked after every tick.
+     * Events that need every tick keep the default of 1. Longer delays let the queue skip the event until it is due,
+     * at which point {@link #tick(boolean, int)} reports how many ticks have passed.
+     */
+    default int getWakeDelay(boolean serverSide){
+        return 1;
+    }
+
+    /**
+     * Called instead of {@link #tick(boolean)} when the event wakes from a delay longer than one tick.
+     */
+    default void tick(boolean serverSide, int elapsedTicks){
+        tick(serverSide);
+    }
+
     // Methods for sending a timed event as a packet to the client side
     default CompoundNBT serialize(CompoundNBT tag){
         if(getID().isEmpty())
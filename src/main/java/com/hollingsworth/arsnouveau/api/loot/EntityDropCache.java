@@ -0,0 +1,102 @@
+package com.hollingsworth.arsnouveau.api.loot;
+
+import com.hollingsworth.arsnouveau.api.ANFakePlayer;
+import com.hollingsworth.arsnouveau.common.mixin.ExpInvokerMixin;
+import com.hollingsworth.arsnouveau.setup.Config;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.loot.LootContext;
+import net.minecraft.loot.LootParameterSets;
+import net.minecraft.loot.LootParameters;
+import net.minecraft.loot.LootTable;
+import net.minecraft.loot.LootTableManager;
+import net.minecraft.util.DamageSource;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sampled loot of entity types. Each Drygmy keeps its own samples, rolled against the entities of its own pen, so
+ * variants like sheep colors, babies or named mobs never carry over to another pen.
+ * The loot table of a type is rolled {@link Config#DRYGMY_SAMPLE_ROLLS} times against entities of that type, and the
+ * result is reused until it is older than {@link Config#DRYGMY_SAMPLE_REFRESH} ticks or the loot tables are reloaded.
+ * More rolls give a closer match to the real drops of a pen, at the cost of a longer refresh.
+ */
+public class EntityDropCache {
+
+    public static class Sample{
+        /**
+         * Every stack dropped over all rolls. Each stack stands for 1 / rolls of a kill.
+         */
+        public final List<ItemStack> stacks;
+        /**
+         * Average experience reward of one kill.
+         */
+        public final double experience;
+        final long sampledAt;
+        final LootTableManager tables;
+
+        Sample(List<ItemStack> stacks, double experience, long sampledAt, LootTableManager tables){
+            this.stacks = Collections.unmodifiableList(stacks);
+            this.experience = experience;
+            this.sampledAt = sampledAt;
+            this.tables = tables;
+        }
+    }
+
+    /**
+     * Returns the sampled loot of a type, rolling it again against the given entities if the sample is missing or old.
+     * @param entities living entities of one type to roll against, at least one.
+     * @param samples the samples of the caller, by type. Rolled samples are stored here.
+     */
+    public static Sample getSample(ServerWorld world, List<LivingEntity> entities, Map<EntityType<?>, Sample> samples){
+        LootTableManager tables = world.getServer().getLootTables();
+        EntityType<?> type = entities.get(0).getType();
+        Sample sample = samples.get(type);
+        if(sample == null || sample.tables != tables || world.getGameTime() - sample.sampledAt > Config.DRYGMY_SAMPLE_REFRESH.get()
+                || world.getGameTime() < sample.sampledAt){
+            sample = roll(world, entities);
+            samples.put(type, sample);
+        }
+        return sample;
+    }
+
+    private static Sample roll(ServerWorld world, List<LivingEntity> entities){
+        ANFakePlayer fakePlayer = ANFakePlayer.getPlayer(world);
+        DamageSource damageSource = DamageSource.playerAttack(fakePlayer);
+        int rolls = Config.DRYGMY_SAMPLE_ROLLS.get();
+        List<ItemStack> stacks = new ArrayList<>();
+        int exp = 0;
+        for(int i = 0; i < rolls; i++){
+            // Spread the rolls over the entities we have, so variants like sheep colors are represented.
+            LivingEntity entity = entities.get(i % entities.size());
+            LootTable loottable = world.getServer().getLootTables().get(entity.getLootTable());
+            LootContext.Builder lootcontext$builder = (new LootContext.Builder(world)).withRandom(world.getRandom())
+                    .withParameter(LootParameters.THIS_ENTITY, entity).withParameter(LootParameters.ORIGIN, entity.position())
+                    .withParameter(LootParameters.DAMAGE_SOURCE, damageSource)
+                    .withOptionalParameter(LootParameters.KILLER_ENTITY, fakePlayer.getEntity())
+                    .withOptionalParameter(LootParameters.DIRECT_KILLER_ENTITY, damageSource.getDirectEntity());
+            lootcontext$builder = lootcontext$builder.withParameter(LootParameters.LAST_DAMAGE_PLAYER, fakePlayer)
+                    .withLuck(fakePlayer.getLuck());
+
+            LootContext ctx = lootcontext$builder.create(LootParameterSets.ENTITY);
+            stacks.addAll(loottable.getRandomItems(ctx));
+            int oldExp = 0;
+            if(entity instanceof MobEntity){
+                oldExp = ((MobEntity) entity).xpReward;
+            }
+            exp += ((ExpInvokerMixin) entity).an_getExperienceReward(fakePlayer);
+
+            if(entity instanceof MobEntity){
+                // EVERY TIME GET EXPERIENCE REWARD IS CALLED IN ZOMBIE ENTITY IT MULTIPLIES BY 2.5X.
+                ((MobEntity) entity).xpReward = oldExp;
+            }
+        }
+        return new Sample(stacks, (double) exp / rolls, world.getGameTime(), world.getServer().getLootTables());
+    }
+}
@@ -16,10 +16,32 @@ import static com.hollingsworth.arsnouveau.api.NbtTags.MAX_MANA_TAG;
 public abstract class AbstractManaTile extends TileEntity implements IManaTile, ITickableTileEntity {
     private int mana = 0;
     private int maxMana = 0;
+    // Source changes are batched into a single packet per sync interval, see ManaTileSyncQueue
+    boolean syncDirty;
+    long lastSyncTick;
     public AbstractManaTile(TileEntityType<?> tileEntityTypeIn) {
         super(tileEntityTypeIn);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        SourceNetwork.get(level).join(this);
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if(level != null)
+            SourceNetwork.get(level).leave(this);
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        SourceNetwork.get(level).leave(this);
+    }
+
     @Override
     public void load(BlockState state, CompoundNBT tag) {
         mana = tag.getInt(MANA_TAG);
@@ -41,7 +63,7 @@ public abstract class AbstractManaTile extends TileEntity implements IManaTile,
             this.mana = this.getMaxMana();
         if(this.mana < 0)
             this.mana = 0;
-        update();
+        markSyncDirty();
         return this.mana;
     }
 
@@ -58,14 +80,24 @@ public abstract class AbstractManaTile extends TileEntity implements IManaTile,
     @Override
     public int removeMana(int manaToRemove) {
         this.setMana(this.getCurrentMana() - manaToRemove);
-        update();
         return this.getCurrentMana();
     }
 
     @Override
     public void setMaxMana(int max) {
         this.maxMana = max;
-        update();
+        markSyncDirty();
+    }
+
+    /**
+     * Queues a source-only sync to clients. Repeated calls before the next flush are sent as one packet.
+     * Use {@link #update()} for changes that need the full tile data resent.
+     */
+    public void markSyncDirty(){
+        if(this.level == null || this.level.isClientSide || syncDirty)
+            return;
+        syncDirty = true;
+        ManaTileSyncQueue.queue(this);
     }
 
     public boolean update(){
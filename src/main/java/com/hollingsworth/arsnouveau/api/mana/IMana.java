@@ -1,5 +1,7 @@
 package com.hollingsworth.arsnouveau.api.mana;
 
+import javax.annotation.Nullable;
+
 public interface IMana {
 
     double getCurrentMana();
@@ -25,4 +27,13 @@ public interface IMana {
     default void setGlyphBonus(int bonus){}
 
     default void setBookTier(int tier){}
+
+    /**
+     * The cached max, regen and discount snapshot, or null if it must be recalculated. See ManaUtil#getManaStats
+     */
+    default @Nullable ManaStats getManaStats(){
+        return null;
+    }
+
+    default void setManaStats(@Nullable ManaStats stats){}
 }
@@ -0,0 +1,48 @@
+package com.hollingsworth.arsnouveau.api.mana;
+
+/**
+ * A snapshot of the equipment, effect and glyph derived mana values for an entity.
+ * Cached on the {@link IMana} capability and recalculated only after the entity's equipment, curios, effects, glyphs or
+ * book tier change, or after {@link #MAX_AGE} ticks in case an addon's calc event depends on something else.
+ */
+public class ManaStats {
+    /** Ticks before a snapshot is recalculated even without an invalidating change. */
+    public static final int MAX_AGE = 600;
+
+    // Bumped on config reload so every cached snapshot is recalculated.
+    private static int globalVersion;
+
+    private final int maxMana;
+    private final double regen;
+    private final int discount;
+    private final long expiresAt;
+    private final int version;
+
+    public ManaStats(int maxMana, double regen, int discount, long gameTime){
+        this.maxMana = maxMana;
+        this.regen = regen;
+        this.discount = discount;
+        this.expiresAt = gameTime + MAX_AGE;
+        this.version = globalVersion;
+    }
+
+    public int getMaxMana() {
+        return maxMana;
+    }
+
+    public double getRegen() {
+        return regen;
+    }
+
+    public int getDiscount() {
+        return discount;
+    }
+
+    public boolean isValid(long gameTime){
+        return version == globalVersion && gameTime < expiresAt;
+    }
+
+    public static void invalidateAll(){
+        globalVersion++;
+    }
+}
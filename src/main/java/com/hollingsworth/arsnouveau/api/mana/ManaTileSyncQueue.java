@@ -0,0 +1,54 @@
+package com.hollingsworth.arsnouveau.api.mana;
+
+import com.hollingsworth.arsnouveau.common.network.Networking;
+import com.hollingsworth.arsnouveau.common.network.PacketUpdateManaTile;
+import com.hollingsworth.arsnouveau.setup.Config;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Coalesces source changes on mana tiles into at most one {@link PacketUpdateManaTile} per tile per sync interval.
+ * Tiles are queued by {@link AbstractManaTile#markSyncDirty()} and flushed at the end of each world tick.
+ */
+public class ManaTileSyncQueue {
+
+    private static final Map<RegistryKey<World>, Set<AbstractManaTile>> dirtyTiles = new HashMap<>();
+
+    public static void queue(AbstractManaTile tile){
+        dirtyTiles.computeIfAbsent(tile.getLevel().dimension(), k -> new LinkedHashSet<>()).add(tile);
+    }
+
+    public static void flush(World world){
+        Set<AbstractManaTile> tiles = dirtyTiles.get(world.dimension());
+        if(tiles == null || tiles.isEmpty())
+            return;
+        long gameTime = world.getGameTime();
+        int interval = Config.MANA_TILE_SYNC_INTERVAL.get();
+        Iterator<AbstractManaTile> iterator = tiles.iterator();
+        while(iterator.hasNext()){
+            AbstractManaTile tile = iterator.next();
+            if(tile.isRemoved() || tile.getLevel() != world || !world.isLoaded(tile.getBlockPos())){
+                iterator.remove();
+                continue;
+            }
+            if(gameTime - tile.lastSyncTick < interval)
+                continue;
+            tile.lastSyncTick = gameTime;
+            tile.syncDirty = false;
+            iterator.remove();
+            Networking.INSTANCE.send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunkAt(tile.getBlockPos())),
+                    new PacketUpdateManaTile(tile.getBlockPos(), tile.getCurrentMana(), tile.getMaxMana()));
+        }
+    }
+
+    public static void clear(World world){
+        dirtyTiles.remove(world.dimension());
+    }
+}
@@ -0,0 +1,128 @@
+package com.hollingsworth.arsnouveau.api.mana;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Per-world registry of loaded source tiles, bucketed by chunk.
+ * Tiles join when they load and leave when they are removed or their chunk unloads, see {@link AbstractManaTile}.
+ * Range queries match the cube searched by {@link BlockPos#findClosestMatch} and prefer the lowest manhattan distance,
+ * but only visit tiles in the chunks overlapping the cube instead of every position inside it.
+ */
+public class SourceNetwork {
+
+    // Client and server worlds share this map in singleplayer.
+    private static final Map<IWorld, SourceNetwork> networks = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Long2ObjectMap<List<AbstractManaTile>> chunkMap = new Long2ObjectOpenHashMap<>();
+
+    public static SourceNetwork get(IWorld world){
+        return networks.computeIfAbsent(world, w -> new SourceNetwork());
+    }
+
+    public static void clear(IWorld world){
+        networks.remove(world);
+    }
+
+    public void join(AbstractManaTile tile){
+        List<AbstractManaTile> chunkList = chunkMap.computeIfAbsent(chunkKey(tile.getBlockPos()), k -> new ArrayList<>());
+        if(!chunkList.contains(tile))
+            chunkList.add(tile);
+    }
+
+    public void leave(AbstractManaTile tile){
+        long key = chunkKey(tile.getBlockPos());
+        List<AbstractManaTile> chunkList = chunkMap.get(key);
+        if(chunkList == null)
+            return;
+        chunkList.remove(tile);
+        if(chunkList.isEmpty())
+            chunkMap.remove(key);
+    }
+
+    /**
+     * Returns the closest tile of the given type within range that matches the filter, or null if there are none.
+     */
+    @Nullable
+    public <T extends AbstractManaTile> T getClosest(BlockPos pos, int range, Class<T> type, Predicate<T> filter){
+        T closest = null;
+        int closestDist = Integer.MAX_VALUE;
+        int minX = (pos.getX() - range) >> 4;
+        int maxX = (pos.getX() + range) >> 4;
+        int minZ = (pos.getZ() - range) >> 4;
+        int maxZ = (pos.getZ() + range) >> 4;
+        for(int chunkX = minX; chunkX <= maxX; chunkX++){
+            for(int chunkZ = minZ; chunkZ <= maxZ; chunkZ++){
+                List<AbstractManaTile> chunkList = chunkMap.get(ChunkPos.asLong(chunkX, chunkZ));
+                if(chunkList == null)
+                    continue;
+                for(AbstractManaTile tile : chunkList){
+                    int dist = distanceInRange(pos, tile.getBlockPos(), range);
+                    if(dist < 0 || dist >= closestDist || !type.isInstance(tile) || tile.isRemoved())
+                        continue;
+                    T typed = type.cast(tile);
+                    if(filter.test(typed)){
+                        closest = typed;
+                        closestDist = dist;
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Returns every tile of the given type within range that matches the filter, closest first.
+     */
+    public <T extends AbstractManaTile> List<T> getAllInRange(BlockPos pos, int range, Class<T> type, Predicate<T> filter){
+        List<T> found = new ArrayList<>();
+        int minX = (pos.getX() - range) >> 4;
+        int maxX = (pos.getX() + range) >> 4;
+        int minZ = (pos.getZ() - range) >> 4;
+        int maxZ = (pos.getZ() + range) >> 4;
+        for(int chunkX = minX; chunkX <= maxX; chunkX++){
+            for(int chunkZ = minZ; chunkZ <= maxZ; chunkZ++){
+                List<AbstractManaTile> chunkList = chunkMap.get(ChunkPos.asLong(chunkX, chunkZ));
+                if(chunkList == null)
+                    continue;
+                for(AbstractManaTile tile : chunkList){
+                    if(distanceInRange(pos, tile.getBlockPos(), range) < 0 || !type.isInstance(tile) || tile.isRemoved())
+                        continue;
+                    T typed = type.cast(tile);
+                    if(filter.test(typed))
+                        found.add(typed);
+                }
+            }
+        }
+        found.sort(Comparator.comparingInt(t -> pos.distManhattan(t.getBlockPos())));
+        return found;
+    }
+
+    /**
+     * Returns the manhattan distance between the two positions, or -1 if other is outside the cube of the given range.
+     */
+    private static int distanceInRange(BlockPos pos, BlockPos other, int range){
+        int dx = Math.abs(other.getX() - pos.getX());
+        int dy = Math.abs(other.getY() - pos.getY());
+        int dz = Math.abs(other.getZ() - pos.getZ());
+        if(dx > range || dy > range || dz > range)
+            return -1;
+        return dx + dy + dz;
+    }
+
+    private static long chunkKey(BlockPos pos){
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+}
@@ -1,40 +1,103 @@
 package com.hollingsworth.arsnouveau.api.mana;
 
 import com.hollingsworth.arsnouveau.common.block.tile.SourcelinkTile;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraftforge.eventbus.api.Event;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Spatial index of sourcelinks that listen for world events, bucketed by dimension, tile type and chunk.
+ * Tiles register themselves when loaded and are removed when broken or when their chunk unloads,
+ * so an event only visits the links in the chunks within {@link #EVENT_RANGE} of its source.
+ */
 public class SourcelinkEventQueue {
 
-    public static Map<String, Set<BlockPos>> posMap = new HashMap<>();
-    public static void addPosition(World world, BlockPos pos){
-        String key = world.dimension().getRegistryName().toString();
-        if(!posMap.containsKey(key))
-            posMap.put(key, new HashSet<>());
+    /** The furthest distance a sourcelink can accept an event from. See {@link SourcelinkTile#eventInRange(BlockPos, Event)} */
+    public static final int EVENT_RANGE = 15;
+
+    private static final Map<RegistryKey<World>, Map<Class<? extends SourcelinkTile>, Long2ObjectMap<List<SourcelinkTile>>>> linkMap = new HashMap<>();
+
+    public static void register(SourcelinkTile tile){
+        World world = tile.getLevel();
+        if(world == null || world.isClientSide)
+            return;
+        List<SourcelinkTile> chunkList = linkMap.computeIfAbsent(world.dimension(), k -> new HashMap<>())
+                .computeIfAbsent(tile.getClass(), k -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(chunkKey(tile.getBlockPos()), k -> new ArrayList<>());
+        if(!chunkList.contains(tile))
+            chunkList.add(tile);
+    }
 
-        posMap.get(key).add(pos);
+    public static void unregister(SourcelinkTile tile){
+        World world = tile.getLevel();
+        if(world == null || world.isClientSide)
+            return;
+        Map<Class<? extends SourcelinkTile>, Long2ObjectMap<List<SourcelinkTile>>> typeMap = linkMap.get(world.dimension());
+        if(typeMap == null)
+            return;
+        Long2ObjectMap<List<SourcelinkTile>> chunkMap = typeMap.get(tile.getClass());
+        if(chunkMap == null)
+            return;
+        long key = chunkKey(tile.getBlockPos());
+        List<SourcelinkTile> chunkList = chunkMap.get(key);
+        if(chunkList == null)
+            return;
+        chunkList.remove(tile);
+        if(chunkList.isEmpty())
+            chunkMap.remove(key);
+    }
+
+    /**
+     * Drops every sourcelink registered in this world. Called when the world unloads.
+     */
+    public static void clear(World world){
+        linkMap.remove(world.dimension());
+    }
+
+    @Deprecated // Sourcelinks register themselves on load, see SourcelinkTile#onLoad
+    public static void addPosition(World world, BlockPos pos){
+        TileEntity entity = world.getBlockEntity(pos);
+        if(entity instanceof SourcelinkTile)
+            register((SourcelinkTile) entity);
     }
 
     public static void addManaEvent(World world, Class<? extends SourcelinkTile> tileType, int amount, Event event, BlockPos sourcePos){
-        List<BlockPos> stalePos = new ArrayList<>();
-        Set<BlockPos> worldList = posMap.getOrDefault(world.dimension().getRegistryName().toString(), new HashSet<>());
-        for(BlockPos p : worldList){
-            TileEntity entity = world.getBlockEntity(p);
-            if(world.getBlockEntity(p) == null || !(entity instanceof SourcelinkTile)){
-                stalePos.add(p);
-                continue;
-            }
-            if(entity.getClass().equals(tileType) && ((SourcelinkTile) entity).eventInRange(sourcePos, event) && ((SourcelinkTile) entity).canAcceptMana() ){
-                ((SourcelinkTile) entity).getManaEvent(sourcePos, amount);
-                break;
+        Map<Class<? extends SourcelinkTile>, Long2ObjectMap<List<SourcelinkTile>>> typeMap = linkMap.get(world.dimension());
+        if(typeMap == null)
+            return;
+        Long2ObjectMap<List<SourcelinkTile>> chunkMap = typeMap.get(tileType);
+        if(chunkMap == null || chunkMap.isEmpty())
+            return;
+        int minX = (sourcePos.getX() - EVENT_RANGE) >> 4;
+        int maxX = (sourcePos.getX() + EVENT_RANGE) >> 4;
+        int minZ = (sourcePos.getZ() - EVENT_RANGE) >> 4;
+        int maxZ = (sourcePos.getZ() + EVENT_RANGE) >> 4;
+        for(int chunkX = minX; chunkX <= maxX; chunkX++){
+            for(int chunkZ = minZ; chunkZ <= maxZ; chunkZ++){
+                List<SourcelinkTile> chunkList = chunkMap.get(ChunkPos.asLong(chunkX, chunkZ));
+                if(chunkList == null)
+                    continue;
+                for(SourcelinkTile tile : chunkList){
+                    if(tile.eventInRange(sourcePos, event) && tile.canAcceptMana()){
+                        tile.getManaEvent(sourcePos, amount);
+                        return;
+                    }
+                }
             }
         }
-        for(BlockPos p : stalePos){
-            worldList.remove(p);
-        }
+    }
+
+    private static long chunkKey(BlockPos pos){
+        return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
     }
 }
@@ -0,0 +1,96 @@
+package com.hollingsworth.arsnouveau.api.recipe;
+
+import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.item.crafting.ShapedRecipe;
+import net.minecraft.item.crafting.ShapelessRecipe;
+import net.minecraft.potion.Potion;
+import net.minecraft.potion.PotionUtils;
+import net.minecraftforge.common.brewing.BrewingRecipe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-wide lookup of the recipes a Wixie cauldron can craft, by result.
+ * Crafting recipes are grouped by result item the first time they are needed, and each group is expanded into its
+ * possible grid placements once. Everything is rebuilt when the recipe manager is replaced by a datapack reload.
+ * The returned wrappers are shared between cauldrons and must not be modified.
+ */
+public class WixieRecipeIndex {
+
+    private static RecipeManager indexedManager;
+    private static Map<Item, List<IRecipe<?>>> recipesByResult;
+    private static final Map<Item, RecipeWrapper> expanded = new HashMap<>();
+
+    private static List<BrewingRecipe> indexedBrewing;
+    private static Map<Potion, RecipeWrapper> potionsByResult;
+
+    /**
+     * Returns the shaped and shapeless recipes for this item, with every placement of the shaped ones in the grid.
+     */
+    public static RecipeWrapper getCraftingRecipes(RecipeManager manager, Item result){
+        if(manager != indexedManager){
+            indexedManager = manager;
+            recipesByResult = null;
+            expanded.clear();
+        }
+        if(recipesByResult == null){
+            recipesByResult = new HashMap<>();
+            for(IRecipe<?> r : manager.getRecipes()){
+                if(r instanceof ShapedRecipe || r instanceof ShapelessRecipe)
+                    recipesByResult.computeIfAbsent(r.getResultItem().getItem(), k -> new ArrayList<>()).add(r);
+            }
+        }
+        return expanded.computeIfAbsent(result, WixieRecipeIndex::expand);
+    }
+
+    private static RecipeWrapper expand(Item result){
+        RecipeWrapper recipes = new RecipeWrapper();
+        for(IRecipe<?> r : recipesByResult.getOrDefault(result, new ArrayList<>())){
+            if (r instanceof ShapedRecipe) {
+                ShapedHelper helper = new ShapedHelper((ShapedRecipe) r);
+                for (List<Ingredient> iList : helper.possibleRecipes) {
+                    recipes.addRecipe(iList, r.getResultItem(), r);
+                }
+            }
+
+            if (r instanceof ShapelessRecipe)
+                recipes.addRecipe(r.getIngredients(), r.getResultItem(), r);
+        }
+        return recipes;
+    }
+
+    /**
+     * Returns the brewing recipes that output exactly this potion stack.
+     */
+    public static RecipeWrapper getPotionRecipes(ItemStack stack){
+        List<BrewingRecipe> brewing = ArsNouveauAPI.getInstance().getAllPotionRecipes();
+        if(brewing != indexedBrewing || potionsByResult == null){
+            indexedBrewing = brewing;
+            potionsByResult = new HashMap<>();
+            for(BrewingRecipe r : brewing){
+                List<Ingredient> list = new ArrayList<>();
+                list.add(new PotionIngredient(r.getInput().getItems()[0]));
+                list.add(r.getIngredient());
+                potionsByResult.computeIfAbsent(PotionUtils.getPotion(r.getOutput()), k -> new RecipeWrapper())
+                        .addRecipe(list, r.getOutput(), null);
+            }
+        }
+        RecipeWrapper candidates = potionsByResult.get(PotionUtils.getPotion(stack));
+        RecipeWrapper recipes = new RecipeWrapper();
+        if(candidates == null)
+            return recipes;
+        for(RecipeWrapper.SingleRecipe recipe : candidates.recipes){
+            if(ItemStack.matches(stack, recipe.outputStack))
+                recipes.addRecipe(recipe);
+        }
+        return recipes;
+    }
+}
@@ -0,0 +1,193 @@
+package com.hollingsworth.arsnouveau.api.spell;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable resolve plan for a spell recipe. Augment runs, buff counts and adjusted mana costs are computed once
+ * per recipe instead of being rescanned for every glyph on every resolve.
+ * Obtained through {@link Spell#getCompiled()}, which rebuilds the plan if the recipe has been modified or the cache
+ * was cleared since.
+ * Plans are interned, so every spell with the same glyphs shares one plan and its validation results.
+ */
+public class CompiledSpell {
+    public static final CompiledSpell EMPTY = new CompiledSpell(Collections.emptyList());
+
+    /**
+     * Max number of distinct recipes kept interned, the least recently used ones are dropped.
+     */
+    private static final int MAX_INTERNED = 512;
+
+    // Client and server threads both compile spells in singleplayer.
+    private static final Map<List<AbstractSpellPart>, CompiledSpell> interned = new LinkedHashMap<List<AbstractSpellPart>, CompiledSpell>(16, 0.75f, true){
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<AbstractSpellPart>, CompiledSpell> eldest) {
+            return size() > MAX_INTERNED;
+        }
+    };
+
+    /**
+     * Bumped by {@link #clearCache()}. Plans of an older generation were compiled with outdated costs or limits.
+     */
+    private static volatile int generation;
+
+    private final AbstractSpellPart[] parts;
+    private final List<AbstractAugment>[] augments;
+    private final Map<AbstractAugment, Integer>[] buffCounts;
+    private final int[] adjustedCosts;
+    private final AbstractEffect[] effects;
+    private final int totalCost;
+    private final Map<ISpellValidator, List<SpellValidationError>> validations = new IdentityHashMap<>();
+    private final int compiledGeneration = generation;
+
+    /**
+     * Returns the shared plan for this recipe, compiling it if no spell with the same glyphs was compiled recently.
+     */
+    public static CompiledSpell of(List<AbstractSpellPart> recipe){
+        List<AbstractSpellPart> key = Collections.unmodifiableList(Arrays.asList(recipe.toArray(new AbstractSpellPart[0])));
+        synchronized (interned){
+            CompiledSpell plan = interned.get(key);
+            if(plan == null){
+                plan = new CompiledSpell(key);
+                interned.put(key, plan);
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * Drops every interned plan and outdates the plans spells already hold, for when glyph costs or validation limits
+     * change after a config reload.
+     */
+    public static void clearCache(){
+        synchronized (interned){
+            interned.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * Returns false if the cache was cleared since this plan was compiled.
+     */
+    public boolean isCurrent(){
+        return compiledGeneration == generation;
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompiledSpell(List<AbstractSpellPart> recipe){
+        int size = recipe.size();
+        this.parts = recipe.toArray(new AbstractSpellPart[0]);
+        this.augments = new List[size + 1];
+        this.buffCounts = new Map[size + 1];
+        this.adjustedCosts = new int[size];
+        List<AbstractEffect> effectList = new ArrayList<>();
+
+        // Walk backwards so each augment run is built once and shared by every index that starts it.
+        List<AbstractAugment> run = Collections.emptyList();
+        Map<AbstractAugment, Integer> counts = Collections.emptyMap();
+        augments[size] = run;
+        buffCounts[size] = counts;
+        for(int i = size - 1; i >= 0; i--){
+            // Slot i holds the augments that follow index i.
+            augments[i] = run;
+            buffCounts[i] = counts;
+            AbstractSpellPart part = parts[i];
+            if(part instanceof AbstractAugment){
+                List<AbstractAugment> extended = new ArrayList<>(run.size() + 1);
+                extended.add((AbstractAugment) part);
+                extended.addAll(run);
+                run = Collections.unmodifiableList(extended);
+                Map<AbstractAugment, Integer> extendedCounts = new IdentityHashMap<>(counts);
+                extendedCounts.merge((AbstractAugment) part, 1, Integer::sum);
+                counts = Collections.unmodifiableMap(extendedCounts);
+            }else{
+                run = Collections.emptyList();
+                counts = Collections.emptyMap();
+            }
+        }
+
+        int cost = 0;
+        for(int i = 0; i < size; i++){
+            AbstractSpellPart part = parts[i];
+            if(part instanceof AbstractAugment)
+                continue;
+            adjustedCosts[i] = part.getAdjustedManaCost(augments[i]);
+            cost += adjustedCosts[i];
+            if(part instanceof AbstractEffect)
+                effectList.add((AbstractEffect) part);
+        }
+        this.totalCost = cost;
+        this.effects = effectList.toArray(new AbstractEffect[0]);
+    }
+
+    /**
+     * Returns true if this plan was compiled from a recipe with the same parts in the same order.
+     */
+    public boolean matches(List<AbstractSpellPart> recipe){
+        if(recipe.size() != parts.length)
+            return false;
+        for(int i = 0; i < parts.length; i++){
+            if(recipe.get(i) != parts[i])
+                return false;
+        }
+        return true;
+    }
+
+    public int size(){
+        return parts.length;
+    }
+
+    public AbstractSpellPart getPart(int index){
+        return parts[index];
+    }
+
+    /**
+     * The read-only run of augments directly following the given index.
+     */
+    public List<AbstractAugment> getAugments(int index){
+        if(index < 0 || index >= parts.length)
+            return Collections.emptyList();
+        return augments[index];
+    }
+
+    public int getBuffCount(int index, AbstractAugment augment){
+        if(index < 0 || index >= parts.length)
+            return 0;
+        return buffCounts[index].getOrDefault(augment, 0);
+    }
+
+    /**
+     * The mana cost of the glyph at this index with its augments applied, or 0 for augments.
+     */
+    public int getAdjustedCost(int index){
+        return adjustedCosts[index];
+    }
+
+    public int getTotalCost(){
+        return totalCost;
+    }
+
+    public AbstractEffect[] getEffects(){
+        return effects;
+    }
+
+    /**
+     * Returns the errors the validator finds in this recipe, running it only the first time.
+     * Validators must only look at the recipe, like the ones provided by {@link com.hollingsworth.arsnouveau.api.ArsNouveauAPI}.
+     */
+    public List<SpellValidationError> validate(ISpellValidator validator){
+        synchronized (validations){
+            List<SpellValidationError> errors = validations.get(validator);
+            if(errors == null){
+                errors = Collections.unmodifiableList(new ArrayList<>(validator.validate(Arrays.asList(parts))));
+                validations.put(validator, errors);
+            }
+            return errors;
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.hollingsworth.arsnouveau.api.spell;
 
 import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.StringNBT;
+import net.minecraftforge.common.util.Constants;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Spell {
     public static final Spell EMPTY = new Spell();
 
+    // Keyed on tag identity. Writers always put a new tag, so a cached tag is never modified afterwards.
+    private static final Cache<CompoundNBT, List<AbstractSpellPart>> decoded = CacheBuilder.newBuilder().weakKeys().maximumSize(1024).build();
+
     public List<AbstractSpellPart> recipe = new ArrayList<>();
     private int cost;
+    private CompiledSpell compiled;
 
     public Spell(List<AbstractSpellPart> recipe){
         this.recipe = recipe == null ? new ArrayList<>() : recipe; // Safe check for tiles initializing a null
@@ -53,20 +66,27 @@ public class Spell {
 
     }
 
-    public List<AbstractAugment> getAugments(int startPosition, @Nullable LivingEntity caster){
-        ArrayList<AbstractAugment> augments = new ArrayList<>();
-        if(recipe == null || recipe.isEmpty())
-            return augments;
-        for(int j = startPosition + 1; j < recipe.size(); j++){
-            AbstractSpellPart next_spell = recipe.get(j);
-            if(next_spell instanceof AbstractAugment){
-                augments.add((AbstractAugment) next_spell);
-            }else{
-                break;
-            }
+    /**
+     * Returns the cached resolve plan for this recipe, recompiling it if the recipe was changed since the last call or
+     * the plan was outdated by a config reload.
+     */
+    public CompiledSpell getCompiled(){
+        if(recipe == null)
+            return CompiledSpell.EMPTY;
+        CompiledSpell plan = compiled;
+        if(plan == null || !plan.isCurrent() || !plan.matches(recipe)){
+            plan = CompiledSpell.of(recipe);
+            compiled = plan;
         }
+        return plan;
+    }
 
-        return augments;
+    /**
+     * Returns a mutable copy of the augments following the given position.
+     * Prefer {@link CompiledSpell#getAugments(int)} when the list is only read.
+     */
+    public List<AbstractAugment> getAugments(int startPosition, @Nullable LivingEntity caster){
+        return new ArrayList<>(getCompiled().getAugments(startPosition));
     }
 
     public int getInstanceCount(AbstractSpellPart spellPart){
@@ -80,25 +100,20 @@ public class Spell {
 
     @Deprecated
     public int getBuffsAtIndex(int startPosition, @Nullable LivingEntity caster, Class<? extends AbstractAugment> augmentClass){
-        return (int) getAugments(startPosition, caster).stream().filter(a -> a.getClass().equals(augmentClass)).count();
+        int count = 0;
+        for(AbstractAugment augment : getCompiled().getAugments(startPosition)){
+            if(augment.getClass().equals(augmentClass))
+                count++;
+        }
+        return count;
     }
 
     public int getBuffsAtIndex(int startPosition, @Nullable LivingEntity caster, AbstractAugment augment){
-        return (int) getAugments(startPosition, caster).stream().filter(a -> a.equals(augment)).count();
+        return getCompiled().getBuffCount(startPosition, augment);
     }
 
     private int getInitialCost(){
-        int cost = 0;
-        if(recipe == null)
-            return cost;
-        for (int i = 0; i < recipe.size(); i++) {
-            AbstractSpellPart spell = recipe.get(i);
-            if (!(spell instanceof AbstractAugment)) {
-                List<AbstractAugment> augments = getAugments(i, null);
-                cost += spell.getAdjustedManaCost(augments);
-            }
-        }
-        return cost;
+        return getCompiled().getTotalCost();
     }
 
     public int getCastingCost(){
@@ -133,6 +148,61 @@ public class Spell {
         return new Spell(recipe);
     }
 
+    /**
+     * Writes the glyphs under the given key as a table of glyph tags and one byte per glyph indexing into it.
+     */
+    public void writeToTag(CompoundNBT tag, String key){
+        ListNBT glyphs = new ListNBT();
+        Map<String, Integer> indexes = new HashMap<>();
+        byte[] order = new byte[recipe.size()];
+        for(int i = 0; i < recipe.size(); i++){
+            String glyphTag = recipe.get(i).tag;
+            Integer index = indexes.get(glyphTag);
+            if(index == null){
+                index = indexes.size();
+                indexes.put(glyphTag, index);
+                glyphs.add(StringNBT.valueOf(glyphTag));
+            }
+            order[i] = (byte) (int) index;
+        }
+        CompoundNBT spellTag = new CompoundNBT();
+        spellTag.put("glyphs", glyphs);
+        spellTag.putByteArray("order", order);
+        tag.put(key, spellTag);
+    }
+
+    /**
+     * Reads a spell written by {@link #writeToTag}, or by {@link #serialize()} in older saves.
+     * Decoded recipes are cached per tag instance, so reading the same unchanged tag again skips the lookups.
+     */
+    public static Spell readFromTag(CompoundNBT tag, String key){
+        if(tag.contains(key, Constants.NBT.TAG_STRING))
+            return deserialize(tag.getString(key));
+        CompoundNBT spellTag = tag.getCompound(key);
+        List<AbstractSpellPart> parts = decoded.getIfPresent(spellTag);
+        if(parts == null){
+            parts = decode(spellTag);
+            decoded.put(spellTag, parts);
+        }
+        return new Spell(new ArrayList<>(parts));
+    }
+
+    private static List<AbstractSpellPart> decode(CompoundNBT spellTag){
+        ListNBT glyphs = spellTag.getList("glyphs", Constants.NBT.TAG_STRING);
+        AbstractSpellPart[] table = new AbstractSpellPart[glyphs.size()];
+        for(int i = 0; i < glyphs.size(); i++){
+            table[i] = ArsNouveauAPI.getInstance().getSpell_map().get(glyphs.getString(i));
+        }
+        List<AbstractSpellPart> parts = new ArrayList<>();
+        for(byte index : spellTag.getByteArray("order")){
+            int i = index & 255;
+            // Glyphs from removed addons are dropped, like in deserialize
+            if(i < table.length && table[i] != null)
+                parts.add(table[i]);
+        }
+        return Collections.unmodifiableList(parts);
+    }
+
     public String getDisplayString(){
         StringBuilder str = new StringBuilder();
         String lastStr = "";
@@ -94,7 +94,7 @@ public class SpellCaster implements ISpellCaster{
         instance.slot = tag.getInt("current_slot");
         for(int i = 0; i < instance.getMaxSlots(); i++){
             if(tag.contains("spell_" + i)){
-                instance.getSpells().put(i, Spell.deserialize(tag.getString("spell_" + i)));
+                instance.getSpells().put(i, Spell.readFromTag(tag, "spell_" + i));
             }
         }
         instance.color = tag.getString("color").isEmpty() ? ParticleUtil.defaultParticleColorWrapper(): ParticleColor.IntWrapper.deserialize(tag.getString("color"));
@@ -110,7 +110,7 @@ public class SpellCaster implements ISpellCaster{
         tag.putString("flavor", getFlavorText());
         int i = 0;
         for(Integer s : getSpells().keySet()){
-            tag.putString("spell_" + i, getSpells().get(s).serialize());
+            getSpells().get(s).writeToTag(tag, "spell_" + i);
             i++;
         }
         stack.setTag(tag);
@@ -0,0 +1,193 @@
+package com.hollingsworth.arsnouveau.api.spell;
+
+import com.hollingsworth.arsnouveau.api.familiar.IFamiliar;
+import com.hollingsworth.arsnouveau.common.block.tile.RitualTile;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.EntityRayTraceResult;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.fml.common.thread.EffectiveSide;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opt-in server side instrumentation of spell resolution, controlled with /ars-nouveau metrics.
+ * Records resolve counts, wall time, a timing histogram and the blocks and entities touched, per glyph, per cast method
+ * and per caster type. Nothing is recorded and nothing is allocated while disabled.
+ * Only the logical server records, so the client thread of a singleplayer game never touches the shared state.
+ */
+public class SpellMetrics {
+    /** Upper bounds in nanoseconds of each timing histogram bucket. The last bucket is unbounded. */
+    public static final long[] BUCKET_LIMITS = {10_000L, 100_000L, 1_000_000L, 10_000_000L};
+    public static final String[] BUCKET_NAMES = {"<10us", "<100us", "<1ms", "<10ms", ">=10ms"};
+
+    private static boolean enabled;
+    private static long startedAt;
+
+    private static final Map<String, Entry> glyphs = new HashMap<>();
+    private static final Map<String, Entry> castMethods = new HashMap<>();
+    private static final Map<String, Entry> casterTypes = new HashMap<>();
+
+    // The glyph currently resolving, so helpers like SpellUtil.calcAOEBlocks can attribute the blocks they return.
+    private static @Nullable GlyphTimer current;
+
+    public static boolean isEnabled(){
+        return enabled;
+    }
+
+    private static boolean isRecording(){
+        return enabled && EffectiveSide.get().isServer();
+    }
+
+    public static void setEnabled(boolean enable){
+        if(enable && !enabled)
+            startedAt = System.currentTimeMillis();
+        enabled = enable;
+        current = null;
+    }
+
+    public static void reset(){
+        glyphs.clear();
+        castMethods.clear();
+        casterTypes.clear();
+        current = null;
+        startedAt = System.currentTimeMillis();
+    }
+
+    public static long getStartedAt(){
+        return startedAt;
+    }
+
+    /**
+     * Starts timing a glyph resolve. Returns null when metrics are disabled.
+     */
+    public static @Nullable GlyphTimer startGlyph(AbstractSpellPart part, RayTraceResult result){
+        if(!isRecording())
+            return null;
+        GlyphTimer timer = new GlyphTimer(glyphs.computeIfAbsent(part.getTag(), Entry::new), current);
+        if(result instanceof BlockRayTraceResult)
+            timer.blocks++;
+        else if(result instanceof EntityRayTraceResult)
+            timer.entities++;
+        current = timer;
+        return timer;
+    }
+
+    /**
+     * Attributes blocks to the glyph currently resolving, if any.
+     */
+    public static void addBlocksTouched(int count){
+        if(current != null && isRecording())
+            current.blocks += count;
+    }
+
+    /**
+     * Attributes entities to the glyph currently resolving, for effects that act on more than the entity they hit.
+     */
+    public static void addEntitiesTouched(int count){
+        if(current != null && isRecording())
+            current.entities += count;
+    }
+
+    /**
+     * Records a whole spell resolve against its cast method and caster type.
+     */
+    public static void recordResolve(Spell spell, SpellContext context, @Nullable LivingEntity shooter, long nanos){
+        if(!isRecording())
+            return;
+        AbstractCastMethod method = spell.getCastMethod();
+        castMethods.computeIfAbsent(method == null ? "none" : method.getTag(), Entry::new).record(nanos, 0, 0);
+        casterTypes.computeIfAbsent(getCasterType(context, shooter), Entry::new).record(nanos, 0, 0);
+    }
+
+    public static String getCasterType(SpellContext context, @Nullable LivingEntity shooter){
+        if(context.getType() != SpellContext.CasterType.OTHER)
+            return context.getType().id;
+        if(context.castingTile instanceof RitualTile)
+            return "ritual";
+        if(context.castingTile != null)
+            return "tile";
+        if(shooter instanceof IFamiliar)
+            return "familiar";
+        if(shooter instanceof PlayerEntity && !(shooter instanceof FakePlayer))
+            return "player";
+        if(shooter != null)
+            return "entity";
+        return SpellContext.CasterType.OTHER.id;
+    }
+
+    public static List<Entry> getGlyphs(){
+        return sorted(glyphs.values());
+    }
+
+    public static List<Entry> getCastMethods(){
+        return sorted(castMethods.values());
+    }
+
+    public static List<Entry> getCasterTypes(){
+        return sorted(casterTypes.values());
+    }
+
+    private static List<Entry> sorted(Collection<Entry> entries){
+        List<Entry> list = new ArrayList<>(entries);
+        list.sort(Comparator.comparingLong((Entry e) -> e.totalNanos).reversed());
+        return list;
+    }
+
+    public static class GlyphTimer{
+        private final Entry entry;
+        private final @Nullable GlyphTimer parent;
+        private final long start;
+        private int blocks;
+        private int entities;
+
+        private GlyphTimer(Entry entry, @Nullable GlyphTimer parent){
+            this.entry = entry;
+            this.parent = parent;
+            this.start = System.nanoTime();
+        }
+
+        public void stop(){
+            entry.record(System.nanoTime() - start, blocks, entities);
+            current = parent;
+        }
+    }
+
+    public static class Entry{
+        public final String name;
+        public long count;
+        public long totalNanos;
+        public long maxNanos;
+        public long blocks;
+        public long entities;
+        public final long[] histogram = new long[BUCKET_LIMITS.length + 1];
+
+        public Entry(String name){
+            this.name = name;
+        }
+
+        void record(long nanos, int blocksTouched, int entitiesTouched){
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            blocks += blocksTouched;
+            entities += entitiesTouched;
+            int bucket = 0;
+            while(bucket < BUCKET_LIMITS.length && nanos >= BUCKET_LIMITS[bucket])
+                bucket++;
+            histogram[bucket]++;
+        }
+
+        public double getAverageMicros(){
+            return count == 0 ? 0 : totalNanos / 1000.0 / count;
+        }
+    }
+}
@@ -73,7 +73,7 @@ public class SpellResolver {
 
     public boolean canCast(LivingEntity entity){
         // Validate the spell
-        List<SpellValidationError> validationErrors = spellValidator.validate(spell.recipe);
+        List<SpellValidationError> validationErrors = spell.getCompiled().validate(spellValidator);
 
         if (validationErrors.isEmpty()) {
             // Validation successful. We can check the player's mana now.
@@ -136,19 +136,30 @@ public class SpellResolver {
         if(spellResolveEvent.isCanceled())
             return;
 
-        for(int i = 0; i < spell.recipe.size(); i++){
+        boolean recordMetrics = SpellMetrics.isEnabled() && !world.isClientSide;
+        long resolveStart = recordMetrics ? System.nanoTime() : 0;
+        CompiledSpell plan = spell.getCompiled();
+        for(int i = 0; i < plan.size(); i++){
             if(spellContext.isCanceled())
                 break;
             AbstractSpellPart part = spellContext.nextSpell();
             SpellStats.Builder builder = new SpellStats.Builder();
             SpellStats stats = builder
-                    .setAugments(spell.getAugments(i, shooter))
+                    .setAugmentsView(plan.getAugments(i))
                     .addItemsFromEntity(shooter)
                     .build(part, result, world, shooter, spellContext);
             if(part instanceof AbstractEffect){
-                ((AbstractEffect) part).onResolve(result, world, shooter, stats, spellContext);
+                SpellMetrics.GlyphTimer timer = recordMetrics ? SpellMetrics.startGlyph(part, result) : null;
+                try{
+                    ((AbstractEffect) part).onResolve(result, world, shooter, stats, spellContext);
+                }finally{
+                    if(timer != null)
+                        timer.stop();
+                }
             }
         }
+        if(recordMetrics)
+            SpellMetrics.recordResolve(spell, spellContext, shooter, System.nanoTime() - resolveStart);
         MinecraftForge.EVENT_BUS.post(new SpellResolveEvent.Post(world, shooter, result, spell, spellContext));
     }
 
@@ -165,11 +176,9 @@ public class SpellResolver {
     }
 
     public boolean wouldAllEffectsDoWork(RayTraceResult result, World world, LivingEntity entity, List<AbstractAugment> augments){
-        for(AbstractSpellPart spellPart : spell.recipe){
-            if(spellPart instanceof AbstractEffect){
-                if(!((AbstractEffect) spellPart).wouldSucceed(result, world, entity, augments)){
-                    return false;
-                }
+        for(AbstractEffect effect : spell.getCompiled().getEffects()){
+            if(!effect.wouldSucceed(result, world, entity, augments)){
+                return false;
             }
         }
         return true;
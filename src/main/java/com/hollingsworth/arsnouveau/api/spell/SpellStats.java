@@ -41,7 +41,12 @@ public class SpellStats {
     }
 
     public int getBuffCount(AbstractAugment abstractAugment){
-        return (int) augments.stream().filter(abstractAugment::equals).count();
+        int count = 0;
+        for(AbstractAugment augment : augments){
+            if(abstractAugment.equals(augment))
+                count++;
+        }
+        return count;
     }
 
     public boolean hasBuff(AbstractAugment abstractAugment){
@@ -101,6 +106,8 @@ public class SpellStats {
 
     public static class Builder{
         private SpellStats spellStats;
+        // Set when the augment list is a shared read-only view and must be copied before adding to it.
+        private boolean sharedAugments;
 
         public Builder(){
             this.spellStats = new SpellStats();
@@ -139,6 +146,17 @@ public class SpellStats {
 
         public Builder setAugments(List<AbstractAugment> augments){
             spellStats.augments = augments;
+            sharedAugments = false;
+            return this;
+        }
+
+        /**
+         * Uses a read-only augment list, such as a slice from {@link CompiledSpell}, without copying it.
+         * The list is only copied if an augment is later added through this builder.
+         */
+        public Builder setAugmentsView(List<AbstractAugment> augments){
+            spellStats.augments = augments;
+            sharedAugments = true;
             return this;
         }
 
@@ -162,6 +180,10 @@ public class SpellStats {
         }
 
         public Builder addAugment(AbstractAugment abstractAugment){
+            if(sharedAugments){
+                spellStats.augments = new ArrayList<>(spellStats.augments);
+                sharedAugments = false;
+            }
             spellStats.augments.add(abstractAugment);
             return this;
         }
@@ -0,0 +1,174 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import com.hollingsworth.arsnouveau.api.spell.AbstractEffect;
+import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
+import com.hollingsworth.arsnouveau.api.spell.SpellContext;
+import com.hollingsworth.arsnouveau.setup.Config;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spreads large lists of block changes from area spells across ticks.
+ * Each world may apply {@link Config#AOE_BLOCKS_PER_TICK} operations per tick, shared by every cast of that tick and by
+ * the deferred work finished at the end of it, within {@link Config#AOE_TICK_BUDGET} milliseconds for the latter.
+ * A cast applies what is left of that budget right away if nothing is waiting, and queues the rest behind older casts,
+ * which are always finished first.
+ * Spells with more effects after this one are never deferred, so the following glyphs see the changed blocks. Their
+ * operations still count against the budget of the tick.
+ */
+public class BlockOperationQueue {
+
+    private static final Map<RegistryKey<World>, WorldQueue> queues = new HashMap<>();
+
+    public interface BlockOperation{
+        /**
+         * Changes the block at this position. Claims and block states should be checked here, as the position may be
+         * processed several ticks after the spell resolved.
+         * @return false to skip the remaining positions of this batch.
+         */
+        boolean apply(BlockPos pos);
+    }
+
+    public static void run(World world, List<BlockPos> positions, @Nullable SpellContext spellContext, BlockOperation operation){
+        LongArrayList packed = new LongArrayList(positions.size());
+        for(BlockPos pos : positions){
+            packed.add(pos.asLong());
+        }
+        run(world, packed, spellContext, operation);
+    }
+
+    /**
+     * Runs the operation over positions packed with {@link BlockPos#asLong()}, see {@link SpellUtil#calcAOEPositions}.
+     * @param spellContext the context of the resolving spell, used to keep spells with later effects synchronous.
+     */
+    public static void run(World world, LongList positions, @Nullable SpellContext spellContext, BlockOperation operation){
+        if(world.isClientSide){
+            runAll(positions, operation);
+            return;
+        }
+        WorldQueue queue = queues.computeIfAbsent(world.dimension(), k -> new WorldQueue());
+        queue.startTick(world.getGameTime());
+        if(hasLaterEffects(spellContext)){
+            queue.used += runAll(positions, operation);
+            return;
+        }
+        Batch batch = new Batch(world, positions, operation);
+        if(queue.pending.isEmpty())
+            queue.used += batch.run(Config.AOE_BLOCKS_PER_TICK.get() - queue.used, Long.MAX_VALUE);
+        if(!batch.isDone())
+            queue.pending.add(batch);
+    }
+
+    /**
+     * Applies every operation right away. Returns the number of operations applied.
+     */
+    private static int runAll(LongList positions, BlockOperation operation){
+        for(int i = 0; i < positions.size(); i++){
+            if(!operation.apply(BlockPos.of(positions.getLong(i))))
+                return i + 1;
+        }
+        return positions.size();
+    }
+
+    /**
+     * Returns true if an effect follows the one resolving in this context. Those effects resolve right after this one
+     * returns, so they must find every block already changed.
+     */
+    private static boolean hasLaterEffects(@Nullable SpellContext spellContext){
+        if(spellContext == null || spellContext.getSpell() == null)
+            return false;
+        List<AbstractSpellPart> recipe = spellContext.getSpell().recipe;
+        for(int i = spellContext.getCurrentIndex(); i < recipe.size(); i++){
+            if(recipe.get(i) instanceof AbstractEffect)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Continues queued batches for this world. Called at the end of each world tick.
+     */
+    public static void flush(World world){
+        WorldQueue queue = queues.get(world.dimension());
+        if(queue == null || queue.pending.isEmpty())
+            return;
+        queue.startTick(world.getGameTime());
+        int maxOps = Config.AOE_BLOCKS_PER_TICK.get();
+        long deadline = System.nanoTime() + Config.AOE_TICK_BUDGET.get() * 1_000_000L;
+        while(!queue.pending.isEmpty() && queue.used < maxOps && System.nanoTime() < deadline){
+            Batch batch = queue.pending.peek();
+            if(batch.world != world){
+                queue.pending.poll();
+                continue;
+            }
+            queue.used += batch.run(maxOps - queue.used, deadline);
+            if(!batch.isDone())
+                break;
+            queue.pending.poll();
+        }
+    }
+
+    public static void clear(World world){
+        queues.remove(world.dimension());
+    }
+
+    private static class WorldQueue{
+        final ArrayDeque<Batch> pending = new ArrayDeque<>();
+        // Operations applied during the current tick, by casts and by flush.
+        int used;
+        long tick = Long.MIN_VALUE;
+
+        void startTick(long gameTime){
+            if(tick != gameTime){
+                used = 0;
+                tick = gameTime;
+            }
+        }
+    }
+
+    private static class Batch{
+        final World world;
+        final LongList positions;
+        final BlockOperation operation;
+        int index;
+        boolean cancelled;
+
+        Batch(World world, LongList positions, BlockOperation operation){
+            this.world = world;
+            this.positions = positions;
+            this.operation = operation;
+        }
+
+        /**
+         * Applies up to limit operations, stopping early at the deadline. Returns the number of operations applied.
+         */
+        int run(int limit, long deadline){
+            int applied = 0;
+            BlockPos.Mutable checkPos = new BlockPos.Mutable();
+            while(!isDone() && applied < limit && (deadline == Long.MAX_VALUE || System.nanoTime() < deadline)){
+                long packed = positions.getLong(index++);
+                // Never load chunks for a deferred change, the area may have unloaded since the cast.
+                if(!world.isLoaded(checkPos.set(BlockPos.getX(packed), BlockPos.getY(packed), BlockPos.getZ(packed))))
+                    continue;
+                applied++;
+                // Operations check and write the world with this position, which may be kept, so it must be immutable.
+                if(!operation.apply(BlockPos.of(packed)))
+                    cancelled = true;
+            }
+            return applied;
+        }
+
+        boolean isDone(){
+            return cancelled || index >= positions.size();
+        }
+    }
+}
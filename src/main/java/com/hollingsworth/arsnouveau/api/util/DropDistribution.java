@@ -1,37 +1,82 @@
 package com.hollingsworth.arsnouveau.api.util;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 /**
  * Gets the next randomly weighted T in a map of Integers where the integer denotes their occurrence in the set.
+ * Uses Vose's alias method, so building is linear in the number of entries and every draw takes constant time.
  * @param <T>
  */
 public class DropDistribution<T>{
     private int totalNum;
-    private final Map<T, Integer> map;
+    private final Object[] values;
+    private final double[] probability;
+    private final int[] alias;
     public static final Random rand = new Random();
 
 
     public DropDistribution(Map<T, Integer> map){
-        for(Integer val: map.values()){
-            totalNum += val;
+        List<T> keys = new ArrayList<>(map.size());
+        List<Integer> weights = new ArrayList<>(map.size());
+        for(Map.Entry<T, Integer> entry : map.entrySet()){
+            if(entry.getValue() == null || entry.getValue() <= 0)
+                continue;
+            keys.add(entry.getKey());
+            weights.add(entry.getValue());
+            totalNum += entry.getValue();
         }
-        this.map = map;
+        int n = keys.size();
+        values = keys.toArray();
+        probability = new double[n];
+        alias = new int[n];
+        if(n == 0)
+            return;
+
+        // Scale the weights so they average 1, then pair each entry under 1 with one over 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0, largeCount = 0;
+        for(int i = 0; i < n; i++){
+            scaled[i] = (double) weights.get(i) * n / totalNum;
+            if(scaled[i] < 1.0){
+                small[smallCount++] = i;
+            }else{
+                large[largeCount++] = i;
+            }
+        }
+        while(smallCount > 0 && largeCount > 0){
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if(scaled[more] < 1.0){
+                small[smallCount++] = more;
+            }else{
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding errors
+        while(largeCount > 0)
+            probability[large[--largeCount]] = 1.0;
+        while(smallCount > 0)
+            probability[small[--smallCount]] = 1.0;
     }
 
     @Nullable
+    @SuppressWarnings("unchecked")
     public T nextDrop(){
         if(totalNum <= 0)
             return null;
-        int gen = DropDistribution.rand.nextInt(totalNum);
-        int counter = 0;
-        for(Map.Entry<T,Integer> entry : this.map.entrySet()){
-            counter += entry.getValue();
-            if(gen <= counter){
-                return entry.getKey();
-            }
-        }
-        return null;
+        int column = DropDistribution.rand.nextInt(values.length);
+        return (T) (DropDistribution.rand.nextDouble() < probability[column] ? values[column] : values[alias[column]]);
+    }
+
+    public boolean isEmpty(){
+        return totalNum <= 0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.EntityPredicates;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Drop-in for {@link World#getEntitiesOfClass} for area scans that run often, like rituals, sourcelinks and carbuncles.
+ * The first query of a tick that touches a chunk section snapshots the entities of the requested class in it into a
+ * grid of {@link #CELL_SIZE} block cells. Later queries in the same tick, from any caller, only visit the cells they
+ * overlap instead of every entity of the section.
+ * Removed entities are skipped, and bounding boxes are checked as they are when queried. Cells are looked up with a
+ * margin of {@link #MOVE_MARGIN} blocks on top of the entity size, for entities that moved since the snapshot.
+ * Results may still differ from the vanilla query within a tick: entities that spawn, move to another section, or move
+ * further than the margin after the snapshot are only found from the next tick, when the snapshots are dropped.
+ */
+public class EntityQueryCache {
+
+    private static final int CELL_SIZE = 4;
+
+    /**
+     * Blocks an entity may move after its section was snapshotted and still be found. Covers a falling item at
+     * terminal speed, which moves about 2 blocks per tick.
+     */
+    private static final double MOVE_MARGIN = 2.0D;
+
+    private static final Map<RegistryKey<World>, WorldCache> caches = new HashMap<>();
+
+    public static <T extends Entity> List<T> getEntitiesOfClass(World world, Class<? extends T> type, AxisAlignedBB box){
+        return getEntitiesOfClass(world, type, box, EntityPredicates.NO_SPECTATORS);
+    }
+
+    public static <T extends Entity> List<T> getEntitiesOfClass(World world, Class<? extends T> type, AxisAlignedBB box, @Nullable Predicate<? super T> filter){
+        if(world.isClientSide)
+            return world.getEntitiesOfClass(type, box, filter);
+        WorldCache cache = caches.computeIfAbsent(world.dimension(), k -> new WorldCache());
+        cache.startTick(world.getGameTime());
+        Long2ObjectMap<SectionGrid> grids = cache.grids.computeIfAbsent(type, k -> new Long2ObjectOpenHashMap<>());
+
+        List<T> found = new ArrayList<>();
+        // Same chunks and sections as World#getEntitiesOfClass, which reaches World#getMaxEntityRadius past the box.
+        double reach = world.getMaxEntityRadius();
+        int minChunkX = MathHelper.floor((box.minX - reach) / 16.0D);
+        int maxChunkX = MathHelper.ceil((box.maxX + reach) / 16.0D);
+        int minChunkZ = MathHelper.floor((box.minZ - reach) / 16.0D);
+        int maxChunkZ = MathHelper.ceil((box.maxZ + reach) / 16.0D);
+        int minSection = MathHelper.clamp(MathHelper.floor((box.minY - reach) / 16.0D), 0, 15);
+        int maxSection = MathHelper.clamp(MathHelper.floor((box.maxY + reach) / 16.0D), 0, 15);
+        for(int chunkX = minChunkX; chunkX < maxChunkX; chunkX++){
+            for(int chunkZ = minChunkZ; chunkZ < maxChunkZ; chunkZ++){
+                Chunk chunk = null;
+                for(int section = minSection; section <= maxSection; section++){
+                    long key = SectionPos.asLong(chunkX, section, chunkZ);
+                    SectionGrid grid = grids.get(key);
+                    if(grid == null){
+                        if(chunk == null)
+                            chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                        if(chunk == null)
+                            break;
+                        grid = new SectionGrid(chunk.getEntitySections()[section].find(type));
+                        grids.put(key, grid);
+                    }
+                    grid.collect(box, filter, found);
+                }
+            }
+        }
+        return found;
+    }
+
+    public static void clear(World world){
+        caches.remove(world.dimension());
+    }
+
+    private static class WorldCache{
+        final Map<Class<?>, Long2ObjectMap<SectionGrid>> grids = new HashMap<>();
+        long tick = Long.MIN_VALUE;
+
+        void startTick(long gameTime){
+            if(tick != gameTime){
+                grids.clear();
+                tick = gameTime;
+            }
+        }
+    }
+
+    /**
+     * Entities of one class in one section, keyed by the cell holding the center of their bounding box.
+     */
+    private static class SectionGrid{
+        final List<Entity> entities = new ArrayList<>();
+        final Long2ObjectMap<List<Entity>> cells = new Long2ObjectOpenHashMap<>();
+        // Half of the largest bounding box side plus the movement allowance, how far past a cell its entities may reach.
+        double margin = MOVE_MARGIN;
+
+        SectionGrid(Iterable<? extends Entity> sectionEntities){
+            for(Entity entity : sectionEntities){
+                entities.add(entity);
+                AxisAlignedBB bb = entity.getBoundingBox();
+                margin = Math.max(margin, Math.max(bb.getXsize(), Math.max(bb.getYsize(), bb.getZsize())) / 2.0D + MOVE_MARGIN);
+                Vector3d center = bb.getCenter();
+                cells.computeIfAbsent(BlockPos.asLong(cell(center.x), cell(center.y), cell(center.z)), k -> new ArrayList<>()).add(entity);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends Entity> void collect(AxisAlignedBB box, @Nullable Predicate<? super T> filter, List<T> found){
+            if(entities.isEmpty())
+                return;
+            int minX = cell(box.minX - margin), maxX = cell(box.maxX + margin);
+            int minY = cell(box.minY - margin), maxY = cell(box.maxY + margin);
+            int minZ = cell(box.minZ - margin), maxZ = cell(box.maxZ + margin);
+            long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+            if(cellCount >= entities.size()){
+                // The box covers as many cells as there are entities, checking every entity is cheaper.
+                for(Entity entity : entities){
+                    test((T) entity, box, filter, found);
+                }
+                return;
+            }
+            for(int x = minX; x <= maxX; x++){
+                for(int y = minY; y <= maxY; y++){
+                    for(int z = minZ; z <= maxZ; z++){
+                        List<Entity> cell = cells.get(BlockPos.asLong(x, y, z));
+                        if(cell == null)
+                            continue;
+                        for(Entity entity : cell){
+                            test((T) entity, box, filter, found);
+                        }
+                    }
+                }
+            }
+        }
+
+        static <T extends Entity> void test(T entity, AxisAlignedBB box, @Nullable Predicate<? super T> filter, List<T> found){
+            if(!entity.removed && entity.getBoundingBox().intersects(box) && (filter == null || filter.test(entity)))
+                found.add(entity);
+        }
+
+        static int cell(double coordinate){
+            return MathHelper.floor(coordinate / CELL_SIZE);
+        }
+    }
+}
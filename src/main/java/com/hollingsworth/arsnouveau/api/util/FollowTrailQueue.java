@@ -0,0 +1,56 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import com.hollingsworth.arsnouveau.common.network.Networking;
+import com.hollingsworth.arsnouveau.common.network.PacketFollowTrails;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the cosmetic trails of source transfers and rituals, and sends them as one {@link PacketFollowTrails} per
+ * chunk at the end of each world tick. Clients draw the trail themselves, so no entity is spawned on the server.
+ */
+public class FollowTrailQueue {
+
+    private static final Map<RegistryKey<World>, Long2ObjectMap<List<PacketFollowTrails.Trail>>> queued = new HashMap<>();
+
+    public static void queue(World world, PacketFollowTrails.Trail trail){
+        queued.computeIfAbsent(world.dimension(), k -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(ChunkPos.asLong(trail.from.getX() >> 4, trail.from.getZ() >> 4), k -> new ArrayList<>())
+                .add(trail);
+    }
+
+    public static void flush(World world){
+        Long2ObjectMap<List<PacketFollowTrails.Trail>> chunks = queued.get(world.dimension());
+        if(chunks == null || chunks.isEmpty())
+            return;
+        for(Long2ObjectMap.Entry<List<PacketFollowTrails.Trail>> entry : chunks.long2ObjectEntrySet()){
+            ChunkPos chunkPos = new ChunkPos(entry.getLongKey());
+            if(!world.hasChunk(chunkPos.x, chunkPos.z))
+                continue;
+            Networking.INSTANCE.send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunk(chunkPos.x, chunkPos.z)),
+                    new PacketFollowTrails(entry.getValue()));
+        }
+        chunks.clear();
+    }
+
+    public static void clear(World world){
+        queued.remove(world.dimension());
+    }
+
+    /**
+     * Returns the distance from the destination at which a trail gives up, the same as {@code EntityFollowProjectile}.
+     */
+    public static int defaultDespawnDistance(BlockPos from, BlockPos to){
+        return (int) (BlockUtil.distanceFrom(from, to) + 10);
+    }
+}
@@ -0,0 +1,155 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Item counts of the inventories around Wixie cauldrons, shared by every cauldron in the world.
+ * An inventory is only recounted when a cheap fingerprint of its slots changed, and the fingerprint is checked at most
+ * once every {@link #RECHECK_TICKS} ticks, so overlapping cauldrons and repeated craft decisions reuse the same counts.
+ */
+public class InventoryCountCache {
+
+    /**
+     * Ticks during which a counted inventory is trusted without looking at its slots.
+     */
+    public static final int RECHECK_TICKS = 10;
+
+    /**
+     * Entries not used for this many ticks are dropped.
+     */
+    private static final int EXPIRE_TICKS = 1200;
+
+    private static final Map<RegistryKey<World>, WorldCache> caches = new HashMap<>();
+
+    /**
+     * Finds the inventories in a box, by looking through the tile entities of the chunks it covers.
+     */
+    public static List<BlockPos> findInventories(World world, BlockPos from, BlockPos to){
+        List<BlockPos> found = new ArrayList<>();
+        int minX = Math.min(from.getX(), to.getX()), maxX = Math.max(from.getX(), to.getX());
+        int minY = Math.min(from.getY(), to.getY()), maxY = Math.max(from.getY(), to.getY());
+        int minZ = Math.min(from.getZ(), to.getZ()), maxZ = Math.max(from.getZ(), to.getZ());
+        for(int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++){
+            for(int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++){
+                Chunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if(chunk == null)
+                    continue;
+                for(Map.Entry<BlockPos, TileEntity> entry : chunk.getBlockEntities().entrySet()){
+                    BlockPos pos = entry.getKey();
+                    if(entry.getValue() instanceof IInventory && pos.getX() >= minX && pos.getX() <= maxX
+                            && pos.getY() >= minY && pos.getY() <= maxY && pos.getZ() >= minZ && pos.getZ() <= maxZ){
+                        found.add(pos.immutable());
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Sums the items of the given inventories. Positions that no longer hold an inventory are removed from the list.
+     * @return a new map that the caller may modify.
+     */
+    public static Map<Item, Integer> getCounts(World world, List<BlockPos> inventories){
+        WorldCache cache = caches.computeIfAbsent(world.dimension(), k -> new WorldCache());
+        long gameTime = world.getGameTime();
+        cache.prune(gameTime);
+
+        Map<Item, Integer> itemsAvailable = new HashMap<>();
+        List<BlockPos> stale = new ArrayList<>();
+        for(BlockPos p : inventories){
+            TileEntity tile = world.getBlockEntity(p);
+            if(!(tile instanceof IInventory)){
+                cache.entries.remove(p);
+                stale.add(p);
+                continue;
+            }
+            Entry entry = cache.entries.get(p);
+            if(entry == null || entry.tile != tile){
+                entry = new Entry(tile);
+                cache.entries.put(p, entry);
+            }
+            entry.refresh((IInventory) tile, gameTime);
+            entry.counts.forEach((item, count) -> itemsAvailable.merge(item, count, Integer::sum));
+        }
+        inventories.removeAll(stale);
+        return itemsAvailable;
+    }
+
+    /**
+     * Forces the inventory at this position to be recounted the next time it is used. Called after taking items from it.
+     */
+    public static void invalidate(World world, BlockPos pos){
+        WorldCache cache = caches.get(world.dimension());
+        if(cache != null)
+            cache.entries.remove(pos);
+    }
+
+    public static void clear(World world){
+        caches.remove(world.dimension());
+    }
+
+    private static class WorldCache{
+        final Map<BlockPos, Entry> entries = new HashMap<>();
+        long lastPrune;
+
+        void prune(long gameTime){
+            if(gameTime - lastPrune < EXPIRE_TICKS)
+                return;
+            lastPrune = gameTime;
+            entries.values().removeIf(e -> gameTime - e.lastUsed > EXPIRE_TICKS);
+        }
+    }
+
+    private static class Entry{
+        final TileEntity tile;
+        Map<Item, Integer> counts = new HashMap<>();
+        long checkedAt = Long.MIN_VALUE;
+        long lastUsed;
+        int fingerprint;
+        boolean counted;
+
+        Entry(TileEntity tile){
+            this.tile = tile;
+        }
+
+        void refresh(IInventory inventory, long gameTime){
+            lastUsed = gameTime;
+            if(counted && gameTime - checkedAt < RECHECK_TICKS)
+                return;
+            checkedAt = gameTime;
+            int newFingerprint = fingerprint(inventory);
+            if(counted && newFingerprint == fingerprint)
+                return;
+            fingerprint = newFingerprint;
+            counted = true;
+            counts = new HashMap<>();
+            for(int i = 0; i < inventory.getContainerSize(); i++){
+                ItemStack stack = inventory.getItem(i);
+                if(!stack.isEmpty())
+                    counts.merge(stack.getItem(), stack.getCount(), Integer::sum);
+            }
+        }
+
+        static int fingerprint(IInventory inventory){
+            int hash = inventory.getContainerSize();
+            for(int i = 0; i < inventory.getContainerSize(); i++){
+                ItemStack stack = inventory.getItem(i);
+                hash = 31 * hash + (stack.isEmpty() ? 0 : System.identityHashCode(stack.getItem()) * 63 + stack.getCount());
+            }
+            return hash;
+        }
+    }
+}
@@ -4,11 +4,13 @@ import com.hollingsworth.arsnouveau.api.event.ManaRegenCalcEvent;
 import com.hollingsworth.arsnouveau.api.event.MaxManaCalcEvent;
 import com.hollingsworth.arsnouveau.api.mana.IMana;
 import com.hollingsworth.arsnouveau.api.mana.IManaEquipment;
+import com.hollingsworth.arsnouveau.api.mana.ManaStats;
+import com.hollingsworth.arsnouveau.api.mana.SourceNetwork;
+import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.armor.MagicArmor;
 import com.hollingsworth.arsnouveau.common.block.tile.ManaJarTile;
 import com.hollingsworth.arsnouveau.common.capability.ManaCapability;
 import com.hollingsworth.arsnouveau.common.enchantment.EnchantmentRegistry;
-import com.hollingsworth.arsnouveau.common.entity.EntityFollowProjectile;
 import com.hollingsworth.arsnouveau.common.potions.ModPotions;
 import com.hollingsworth.arsnouveau.setup.Config;
 import net.minecraft.enchantment.EnchantmentHelper;
@@ -24,12 +26,50 @@ import net.minecraftforge.items.IItemHandlerModifiable;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 //TODO: Change to SourceUtil and method names
 public class ManaUtil {
 
+    /**
+     * Returns the cached max mana, regen and discount snapshot for this entity, recalculating it if it was invalidated.
+     * Snapshots are only cached on the server, where equipment and effect changes invalidate them.
+     */
+    public static ManaStats getManaStats(LivingEntity e){
+        IMana mana = ManaCapability.getMana(e).orElse(null);
+        long gameTime = e.level.getGameTime();
+        ManaStats stats = mana == null || e.level.isClientSide ? null : mana.getManaStats();
+        if(stats == null || !stats.isValid(gameTime)){
+            if(e instanceof PlayerEntity){
+                stats = new ManaStats(calcMaxMana((PlayerEntity) e), calcManaRegen((PlayerEntity) e), calcPlayerDiscounts(e), gameTime);
+            }else{
+                stats = new ManaStats(0, 0, calcPlayerDiscounts(e), gameTime);
+            }
+            if(mana != null && !e.level.isClientSide)
+                mana.setManaStats(stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Drops the cached stats so they are recalculated on next use. Call when something changes max mana, regen or discounts.
+     */
+    public static void invalidateManaStats(LivingEntity e){
+        ManaCapability.getMana(e).ifPresent(mana -> mana.setManaStats(null));
+    }
+
     public static int getPlayerDiscounts(LivingEntity e){
+        return e.level.isClientSide ? calcPlayerDiscounts(e) : getManaStats(e).getDiscount();
+    }
+
+    public static int getMaxMana(PlayerEntity e){
+        return e.level.isClientSide ? calcMaxMana(e) : getManaStats(e).getMaxMana();
+    }
+
+    public static double getManaRegen(PlayerEntity e) {
+        return e.level.isClientSide ? calcManaRegen(e) : getManaStats(e).getRegen();
+    }
+
+    public static int calcPlayerDiscounts(LivingEntity e){
         AtomicInteger discounts = new AtomicInteger();
         CuriosUtil.getAllWornItems(e).ifPresent(items ->{
 
@@ -43,7 +83,7 @@ public class ManaUtil {
     }
 
 
-    public static int getMaxMana(PlayerEntity e){
+    public static int calcMaxMana(PlayerEntity e){
         IMana mana = ManaCapability.getMana(e).orElse(null);
         if(mana == null)
             return 0;
@@ -75,7 +115,7 @@ public class ManaUtil {
         return max;
     }
 
-    public static double getManaRegen(PlayerEntity e) {
+    public static double calcManaRegen(PlayerEntity e) {
         IMana mana = ManaCapability.getMana(e).orElse(null);
         if(mana == null)
             return 0;
@@ -114,44 +154,39 @@ public class ManaUtil {
      */
     @Nullable
     public static BlockPos takeManaNearby(BlockPos pos, World world, int range, int mana){
-        Optional<BlockPos> loc = BlockPos.findClosestMatch(pos, range, range, (b) -> world.getBlockEntity(b) instanceof ManaJarTile && ((ManaJarTile) world.getBlockEntity(b)).getCurrentMana() >= mana);
-        if(!loc.isPresent())
+        ManaJarTile tile = SourceNetwork.get(world).getClosest(pos, range, ManaJarTile.class, jar -> jar.getCurrentMana() >= mana);
+        if(tile == null)
             return null;
-        ManaJarTile tile = (ManaJarTile) world.getBlockEntity(loc.get());
         tile.removeMana(mana);
-        return loc.get();
+        return tile.getBlockPos();
     }
 
     public static @Nullable BlockPos takeManaNearbyWithParticles(BlockPos pos, World world, int range, int mana){
         BlockPos result = takeManaNearby(pos,world,range,mana);
         if(result != null){
-            EntityFollowProjectile aoeProjectile = new EntityFollowProjectile(world, result, pos);
-            world.addFreshEntity(aoeProjectile);
+            ParticleUtil.spawnFollowProjectile(world, result, pos);
         }
         return result;
     }
 
     /**
      * Searches for nearby mana jars that have enough mana.
-     * Returns the position where the mana was taken, or null if none were found.
      */
     public static boolean hasManaNearby(BlockPos pos, World world, int range, int mana){
-        Optional<BlockPos> loc = BlockPos.findClosestMatch(pos, range, range, (b) -> world.getBlockEntity(b) instanceof ManaJarTile && ((ManaJarTile) world.getBlockEntity(b)).getCurrentMana() >= mana);
-        return loc.isPresent();
+        return SourceNetwork.get(world).getClosest(pos, range, ManaJarTile.class, jar -> jar.getCurrentMana() >= mana) != null;
     }
 
     @Nullable
     public static BlockPos canGiveManaClosest(BlockPos pos, World world, int range){
-        Optional<BlockPos> loc = BlockPos.findClosestMatch(pos, range, range, (b) ->  world.getBlockEntity(b) instanceof ManaJarTile && ((ManaJarTile) world.getBlockEntity(b)).canAcceptMana());
-        return loc.orElse(null);
+        ManaJarTile tile = SourceNetwork.get(world).getClosest(pos, range, ManaJarTile.class, ManaJarTile::canAcceptMana);
+        return tile == null ? null : tile.getBlockPos();
     }
 
     public static List<BlockPos> canGiveManaAny(BlockPos pos, World world, int range){
         List<BlockPos> posList = new ArrayList<>();
-        BlockPos.withinManhattanStream(pos, range, range, range).forEach(b ->{
-            if(world.getBlockEntity(b) instanceof ManaJarTile && ((ManaJarTile) world.getBlockEntity(b)).canAcceptMana())
-                posList.add(b.immutable());
-        });
+        for(ManaJarTile tile : SourceNetwork.get(world).getAllInRange(pos, range, ManaJarTile.class, ManaJarTile::canAcceptMana)){
+            posList.add(tile.getBlockPos());
+        }
         return posList;
     }
 }
@@ -1,9 +1,14 @@
 package com.hollingsworth.arsnouveau.api.util;
 
 import com.hollingsworth.arsnouveau.api.event.SpellCastEvent;
+import com.hollingsworth.arsnouveau.api.spell.SpellMetrics;
 import com.hollingsworth.arsnouveau.api.spell.SpellStats;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAOE;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentPierce;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.util.Direction;
@@ -48,11 +53,37 @@ public class SpellUtil {
         return calcAOEBlocks(hitVec, origin, mop, width, height, depth, distance);
     }
 
+    public static LongArrayList calcAOEPositions(LivingEntity caster, BlockPos origin, BlockRayTraceResult mop, SpellStats stats) {
+        int aoeBonus = stats.getBuffCount(AugmentAOE.INSTANCE);
+        int pierceBonus = stats.getBuffCount(AugmentPierce.INSTANCE);
+        return calcAOEPositions(caster, origin, mop, 1 + aoeBonus, 1 + aoeBonus, 1 + pierceBonus, -1);
+    }
+
+    public static LongArrayList calcAOEPositions(LivingEntity caster, BlockPos origin, BlockRayTraceResult mop, int aoeBonus, int pierceBonus) {
+        return calcAOEPositions(caster, origin, mop, 1 + aoeBonus, 1 + aoeBonus, 1 + pierceBonus, -1);
+    }
+
+    public static LongArrayList calcAOEPositions(LivingEntity caster, BlockPos origin, BlockRayTraceResult mop, int width, int height, int depth, int distance) {
+        Vector3i hitVec = caster.getDirection().getNormal();
+        if(caster instanceof FakePlayer){ // See calcAOEBlocks
+            mop = new BlockRayTraceResult( mop.getLocation(), mop.getDirection(), mop.getBlockPos(), false);
+        }
+        return calcAOEPositions(hitVec, origin, mop, width, height, depth, distance);
+    }
+
     public static List<BlockPos> calcAOEBlocks(Vector3d hitVec, BlockPos origin, BlockRayTraceResult mop, int width, int height, int depth, int distance) {
         return calcAOEBlocks(Direction.getNearest(hitVec.x, hitVec.y, hitVec.z).getOpposite().getNormal(), origin, mop, width, height, depth, distance);
     }
     // https://github.com/SlimeKnights/TinkersConstruct/blob/1.12/src/main/java/slimeknights/tconstruct/library/utils/ToolHelper.java
     public static List<BlockPos> calcAOEBlocks(Vector3i facingVec, BlockPos origin, BlockRayTraceResult mop, int width, int height, int depth, int distance) {
+        return toBlockPosList(calcAOEPositions(facingVec, origin, mop, width, height, depth, distance));
+    }
+
+    /**
+     * Same area as {@link #calcAOEBlocks(Vector3i, BlockPos, BlockRayTraceResult, int, int, int, int)}, packed with {@link BlockPos#asLong()}
+     * so no BlockPos is allocated per position. The origin is last.
+     */
+    public static LongArrayList calcAOEPositions(Vector3i facingVec, BlockPos origin, BlockRayTraceResult mop, int width, int height, int depth, int distance) {
         // we know the block and we know which side of the block we're hitting. time to calculate the depth along the different axes
         int x, y, z;
         BlockPos start = origin;
@@ -111,7 +142,7 @@ public class SpellUtil {
                 x = y = z = 0;
         }
 
-        ArrayList<BlockPos> builder = new ArrayList<>();
+        LongArrayList builder = new LongArrayList(Math.abs(x * y * z) + 1);
         for(int xp = start.getX(); xp != start.getX() + x; xp += x / MathHelper.abs(x)) {
             for(int yp = start.getY(); yp != start.getY() + y; yp += y / MathHelper.abs(y)) {
                 for(int zp = start.getZ(); zp != start.getZ() + z; zp += z / MathHelper.abs(z)) {
@@ -123,38 +154,65 @@ public class SpellUtil {
                             zp - origin.getZ()) > distance) {
                         continue;
                     }
-                    BlockPos pos = new BlockPos(xp, yp, zp);
-                    builder.add(pos);
+                    builder.add(BlockPos.asLong(xp, yp, zp));
                 }
             }
         }
-        builder.add(origin);
-
+        builder.add(origin.asLong());
+        SpellMetrics.addBlocksTouched(builder.size());
         return builder;
     }
 
+    public static List<BlockPos> toBlockPosList(LongList positions){
+        List<BlockPos> list = new ArrayList<>(positions.size());
+        for(int i = 0; i < positions.size(); i++){
+            list.add(BlockPos.of(positions.getLong(i)));
+        }
+        return list;
+    }
+
     public static Set<BlockPos> DFSBlockstates(World world, BlockPos start, int maxBlocks, Predicate<BlockState> isMatch){
-        return DFSBlockstates(world, Collections.singleton(start), maxBlocks, isMatch);
+        LongArrayList found = BFSPositions(world, start, maxBlocks, isMatch);
+        Set<BlockPos> set = new HashSet<>(found.size());
+        for(int i = 0; i < found.size(); i++){
+            set.add(BlockPos.of(found.getLong(i)));
+        }
+        return set;
     }
 
-    private static Set<BlockPos> DFSBlockstates(World world, Collection<BlockPos> start, int maxBlocks, Predicate<BlockState> isMatch) {
-        LinkedList<BlockPos> searchQueue = new LinkedList<>(start);
-        HashSet<BlockPos> searched = new HashSet<>(start);
-        HashSet<BlockPos> found = new HashSet<>();
+    /**
+     * Breadth first search of connected blocks matching the predicate, including diagonals, starting at start.
+     * Returns up to maxBlocks packed positions in the order they were found.
+     */
+    public static LongArrayList BFSPositions(World world, BlockPos start, int maxBlocks, Predicate<BlockState> isMatch) {
+        LongArrayFIFOQueue searchQueue = new LongArrayFIFOQueue();
+        LongOpenHashSet searched = new LongOpenHashSet();
+        LongArrayList found = new LongArrayList();
+        BlockPos.Mutable current = new BlockPos.Mutable();
+        long startPos = start.asLong();
+        searchQueue.enqueue(startPos);
+        searched.add(startPos);
 
         while(!searchQueue.isEmpty() && found.size() < maxBlocks) {
-            BlockPos current = searchQueue.removeFirst();
-            BlockState state = world.getBlockState(current);
+            long packed = searchQueue.dequeueLong();
+            int x = BlockPos.getX(packed);
+            int y = BlockPos.getY(packed);
+            int z = BlockPos.getZ(packed);
+            BlockState state = world.getBlockState(current.set(x, y, z));
             if (isMatch.test(state)) {
-                found.add(current);
-                BlockPos.betweenClosedStream(current.offset(1, 1, 1), current.offset(-1, -1, -1)).forEach(neighborMutable -> {
-                    if (searched.contains(neighborMutable)) return;
-                    BlockPos neighbor = neighborMutable.immutable();
-                    searched.add(neighbor);
-                    searchQueue.add(neighbor);
-                });
+                found.add(packed);
+                for(int dx = -1; dx <= 1; dx++){
+                    for(int dy = -1; dy <= 1; dy++){
+                        for(int dz = -1; dz <= 1; dz++){
+                            long neighbor = BlockPos.asLong(x + dx, y + dy, z + dz);
+                            if(searched.add(neighbor))
+                                searchQueue.enqueue(neighbor);
+                        }
+                    }
+                }
             }
         }
+        SpellMetrics.addBlocksTouched(found.size());
         return found;
     }
 }
@@ -0,0 +1,155 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Reverts temporary blocks, like intangible air and mage blocks, once their time is up.
+ * Each world keeps one queue ordered by expiry tick, saved with the world, and processed at the end of the world tick,
+ * so the blocks themselves do not need a ticking tile entity. A block is only reverted if it is still the block that
+ * was scheduled, and blocks in unloaded chunks wait until their chunk is loaded again.
+ */
+public class TemporaryBlockScheduler extends WorldSavedData {
+
+    private static final String NAME = ArsNouveau.MODID + "_temporary_blocks";
+
+    /**
+     * Max number of blocks reverted per world tick. The rest is reverted over the next ticks.
+     */
+    private static final int MAX_PER_TICK = 512;
+
+    /**
+     * Ticks to wait before trying again when the chunk of an expired block is not loaded.
+     */
+    private static final int UNLOADED_RETRY_TICKS = 100;
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(Comparator.comparingLong(e -> e.expiresAt));
+    // The live entry of each position, newer entries replace older ones that are then skipped when they come up.
+    private final Long2ObjectMap<Entry> byPos = new Long2ObjectOpenHashMap<>();
+
+    public TemporaryBlockScheduler() {
+        super(NAME);
+    }
+
+    public static TemporaryBlockScheduler get(ServerWorld world){
+        return world.getDataStorage().computeIfAbsent(TemporaryBlockScheduler::new, NAME);
+    }
+
+    /**
+     * Schedules the block at pos to be reverted after the given number of ticks, replacing what was scheduled there.
+     * @param expected the temporary block, nothing happens if the position holds something else when the time is up.
+     * @param revertTo the state to restore, or null to destroy the block.
+     */
+    public void schedule(ServerWorld world, BlockPos pos, Block expected, @Nullable BlockState revertTo, int ticks){
+        add(new Entry(pos.asLong(), expected, revertTo, world.getGameTime() + Math.max(0, ticks)));
+        setDirty();
+    }
+
+    /**
+     * Forgets what was scheduled at pos, for when a block that must stay replaces the temporary one.
+     */
+    public void cancel(BlockPos pos){
+        if(byPos.remove(pos.asLong()) != null)
+            setDirty();
+    }
+
+    public boolean isScheduled(BlockPos pos){
+        return byPos.containsKey(pos.asLong());
+    }
+
+    public void tick(ServerWorld world){
+        if(queue.isEmpty())
+            return;
+        long gameTime = world.getGameTime();
+        int reverted = 0;
+        boolean changed = false;
+        while(!queue.isEmpty() && queue.peek().expiresAt <= gameTime && reverted < MAX_PER_TICK){
+            Entry entry = queue.poll();
+            if(byPos.get(entry.pos) != entry)
+                continue;
+            changed = true;
+            BlockPos pos = BlockPos.of(entry.pos);
+            if(!world.isLoaded(pos)){
+                add(new Entry(entry.pos, entry.expected, entry.revertTo, gameTime + UNLOADED_RETRY_TICKS));
+                continue;
+            }
+            byPos.remove(entry.pos);
+            reverted++;
+            if(world.getBlockState(pos).getBlock() != entry.expected)
+                continue;
+            if(entry.revertTo == null){
+                world.destroyBlock(pos, false);
+            }else{
+                world.setBlockAndUpdate(pos, entry.revertTo);
+            }
+        }
+        if(changed)
+            setDirty();
+    }
+
+    private void add(Entry entry){
+        byPos.put(entry.pos, entry);
+        queue.add(entry);
+    }
+
+    @Override
+    public void load(CompoundNBT tag) {
+        queue.clear();
+        byPos.clear();
+        ListNBT list = tag.getList("blocks", Constants.NBT.TAG_COMPOUND);
+        for(INBT inbt : list){
+            CompoundNBT entryTag = (CompoundNBT) inbt;
+            Block expected = ForgeRegistries.BLOCKS.getValue(new ResourceLocation(entryTag.getString("block")));
+            if(expected == null)
+                continue;
+            BlockState revertTo = entryTag.contains("revert") ? net.minecraft.nbt.NBTUtil.readBlockState(entryTag.getCompound("revert")) : null;
+            add(new Entry(entryTag.getLong("pos"), expected, revertTo, entryTag.getLong("expires")));
+        }
+    }
+
+    @Override
+    public CompoundNBT save(CompoundNBT tag) {
+        ListNBT list = new ListNBT();
+        for(Entry entry : byPos.values()){
+            CompoundNBT entryTag = new CompoundNBT();
+            entryTag.putLong("pos", entry.pos);
+            entryTag.putString("block", entry.expected.getRegistryName().toString());
+            if(entry.revertTo != null)
+                entryTag.put("revert", net.minecraft.nbt.NBTUtil.writeBlockState(entry.revertTo));
+            entryTag.putLong("expires", entry.expiresAt);
+            list.add(entryTag);
+        }
+        tag.put("blocks", list);
+        return tag;
+    }
+
+    private static class Entry{
+        final long pos;
+        final Block expected;
+        @Nullable final BlockState revertTo;
+        final long expiresAt;
+
+        Entry(long pos, Block expected, @Nullable BlockState revertTo, long expiresAt){
+            this.pos = pos;
+            this.expected = expected;
+            this.revertTo = revertTo;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import com.hollingsworth.arsnouveau.api.ANFakePlayer;
+import com.hollingsworth.arsnouveau.api.mana.SourceNetwork;
+import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
+import com.hollingsworth.arsnouveau.common.block.BasicSpellTurret;
+import com.hollingsworth.arsnouveau.common.block.tile.BasicSpellTurretTile;
+import com.hollingsworth.arsnouveau.common.block.tile.ManaJarTile;
+import com.hollingsworth.arsnouveau.common.network.Networking;
+import com.hollingsworth.arsnouveau.common.network.PacketOneShotAnimations;
+import com.hollingsworth.arsnouveau.setup.Config;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fires spell turrets in one pass at the end of each world tick instead of one by one as they are triggered.
+ * Turrets are grouped by chunk, and each chunk may fire {@link Config#TURRET_FIRES_PER_CHUNK} turrets per tick. The rest
+ * keep their place in line and fire on the next ticks. A turret triggered again before it fired is only queued once.
+ * Source jars near a chunk section are looked up once per tick and shared by every turret in it, and the firing
+ * animations of a chunk are sent to clients as one packet.
+ */
+public class TurretFireQueue {
+
+    public static final int SOURCE_RANGE = 10;
+
+    private static final Map<RegistryKey<World>, Long2ObjectMap<LongLinkedOpenHashSet>> queued = new HashMap<>();
+
+    public static void queue(World world, BlockPos pos){
+        queued.computeIfAbsent(world.dimension(), k -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), k -> new LongLinkedOpenHashSet())
+                .add(pos.asLong());
+    }
+
+    public static void flush(ServerWorld world){
+        Long2ObjectMap<LongLinkedOpenHashSet> chunks = queued.get(world.dimension());
+        if(chunks == null || chunks.isEmpty())
+            return;
+        int budget = Config.TURRET_FIRES_PER_CHUNK.get();
+        Long2ObjectMap<List<ManaJarTile>> jarsBySection = new Long2ObjectOpenHashMap<>();
+        // Spells cast below may trigger more turrets, so walk a copy of the keys.
+        for(long chunkKey : new LongArrayList(chunks.keySet())){
+            LongLinkedOpenHashSet positions = chunks.get(chunkKey);
+            ChunkPos chunkPos = new ChunkPos(chunkKey);
+            if(positions == null || !world.hasChunk(chunkPos.x, chunkPos.z)){
+                chunks.remove(chunkKey);
+                continue;
+            }
+            List<BlockPos> fired = new ArrayList<>();
+            for(int i = 0; i < budget && !positions.isEmpty(); i++){
+                BlockPos pos = BlockPos.of(positions.removeFirstLong());
+                BlockState state = world.getBlockState(pos);
+                TileEntity tileEntity = world.getBlockEntity(pos);
+                if(!(state.getBlock() instanceof BasicSpellTurret) || !(tileEntity instanceof BasicSpellTurretTile))
+                    continue;
+                BasicSpellTurretTile tile = (BasicSpellTurretTile) tileEntity;
+                if(tile.spell.isEmpty() || !takeSource(world, pos, tile.getManaCost(), jarsBySection))
+                    continue;
+                fired.add(pos);
+                // Each turret gets its own caster, delayed and projectile spells keep it after this tick.
+                ((BasicSpellTurret) state.getBlock()).castSpell(world, pos, tile, ANFakePlayer.getPlayer(world));
+            }
+            if(!fired.isEmpty()){
+                Networking.INSTANCE.send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunk(chunkPos.x, chunkPos.z)),
+                        new PacketOneShotAnimations(fired, 0));
+            }
+            if(positions.isEmpty())
+                chunks.remove(chunkKey);
+        }
+    }
+
+    public static void clear(World world){
+        queued.remove(world.dimension());
+    }
+
+    /**
+     * Takes source from the closest jar in range with enough for the cost, like {@link ManaUtil#takeManaNearbyWithParticles}.
+     * Jars are fetched once per section per flush; covering the section plus the range keeps every turret inside it in reach.
+     */
+    private static boolean takeSource(ServerWorld world, BlockPos pos, int cost, Long2ObjectMap<List<ManaJarTile>> jarsBySection){
+        long sectionKey = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        List<ManaJarTile> jars = jarsBySection.get(sectionKey);
+        if(jars == null){
+            BlockPos center = new BlockPos((pos.getX() & ~15) + 8, (pos.getY() & ~15) + 8, (pos.getZ() & ~15) + 8);
+            jars = SourceNetwork.get(world).getAllInRange(center, SOURCE_RANGE + 8, ManaJarTile.class, jar -> true);
+            jarsBySection.put(sectionKey, jars);
+        }
+        ManaJarTile closest = getClosest(pos, cost, jars);
+        if(closest == null)
+            return false;
+        closest.removeMana(cost);
+        ParticleUtil.spawnFollowProjectile(world, closest.getBlockPos(), pos);
+        return true;
+    }
+
+    @Nullable
+    private static ManaJarTile getClosest(BlockPos pos, int cost, List<ManaJarTile> jars){
+        ManaJarTile closest = null;
+        int closestDist = Integer.MAX_VALUE;
+        for(ManaJarTile jar : jars){
+            BlockPos jarPos = jar.getBlockPos();
+            int dx = Math.abs(jarPos.getX() - pos.getX());
+            int dy = Math.abs(jarPos.getY() - pos.getY());
+            int dz = Math.abs(jarPos.getZ() - pos.getZ());
+            if(dx > SOURCE_RANGE || dy > SOURCE_RANGE || dz > SOURCE_RANGE || dx + dy + dz >= closestDist)
+                continue;
+            if(jar.isRemoved() || jar.getCurrentMana() < cost)
+                continue;
+            closest = jar;
+            closestDist = dx + dy + dz;
+        }
+        return closest;
+    }
+}
@@ -30,6 +30,7 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.RenderPlayerEvent;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -38,9 +39,6 @@ import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
 import net.minecraftforge.fml.network.PacketDistributor;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static com.hollingsworth.arsnouveau.api.util.DropDistribution.rand;
 
 
@@ -102,26 +100,20 @@ public class PlayerEvent {
 
     @SubscribeEvent
     public static void playerTickEvent(final TickEvent.PlayerTickEvent event){
-        if(event.side == LogicalSide.CLIENT && event.phase == TickEvent.Phase.END && event.player.getEffect(ModPotions.SCRYING_EFFECT) != null && ClientInfo.ticksInGame % 30 == 0){
-
-            List<BlockPos> scryingPos = new ArrayList<>();
-            CompoundNBT tag = ClientInfo.persistentData;
-            if(!tag.contains("an_scrying"))
-                return;
-            PlayerEntity playerEntity = event.player;
-            World world = playerEntity.level;
-            for(BlockPos p : BlockPos.withinManhattan(playerEntity.blockPosition(), 20, 120, 20)){
-                if(p.getY() >= world.getMaxBuildHeight() || world.getBlockState(p).isAir(world, p))
-                    continue;
-                if(scryingPos.size() >= 50)
-                    break;
-
-                if(world.getBlockState(p).getBlock().getRegistryName().toString().equals(tag.getString("an_scrying"))) {
-                    scryingPos.add(new BlockPos(p));
-                }
-            }
-            ClientInfo.scryingPositions = scryingPos;
+        if(event.side != LogicalSide.CLIENT || event.phase != TickEvent.Phase.END || event.player != minecraft.player)
+            return;
+        CompoundNBT tag = ClientInfo.persistentData;
+        if(event.player.getEffect(ModPotions.SCRYING_EFFECT) == null || !tag.contains("an_scrying")){
+            ScryingScanner.stop();
+            return;
         }
+        ScryingScanner.tick(event.player, tag.getString("an_scrying"));
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(final BlockEvent.NeighborNotifyEvent event){
+        if(event.getWorld().isClientSide() && event.getWorld() instanceof World)
+            ScryingScanner.invalidate((World) event.getWorld(), event.getPos());
     }
 
     @SubscribeEvent
@@ -0,0 +1,227 @@
+package com.hollingsworth.arsnouveau.client;
+
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.SectionSnapshot;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.apache.logging.log4j.LogManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Finds the blocks highlighted by the scrying effect, see {@link ClientInfo#scryingPositions}.
+ * The target block is resolved to its set of states once. Sections whose palette cannot hold one of them are skipped,
+ * the others are copied on the client thread and searched on a worker thread. Results are kept per section, so moving
+ * only scans the sections that came into range, and each section is scanned again after {@link #REFRESH_TICKS} or
+ * when a block in it changes.
+ */
+public class ScryingScanner {
+
+    private static final int HORIZONTAL_RANGE = 20;
+    private static final int VERTICAL_RANGE = 120;
+    private static final int MAX_RESULTS = 50;
+
+    /**
+     * Max number of sections copied per tick, to spread the work of a full scan over several ticks.
+     */
+    private static final int SECTIONS_PER_TICK = 8;
+
+    /**
+     * Ticks after which a scanned section is scanned again, to pick up changes we were not told about.
+     */
+    private static final int REFRESH_TICKS = 100;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Ars Nouveau Scrying Worker");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((t, throwable) -> LogManager.getLogger().error("Scrying worker errored!", throwable));
+        return thread;
+    });
+
+    private static final Long2ObjectMap<SectionResult> sections = new Long2ObjectOpenHashMap<>();
+    private static final LongSet pending = new LongOpenHashSet();
+    private static final ConcurrentLinkedQueue<SectionResult> completed = new ConcurrentLinkedQueue<>();
+
+    private static World scannedWorld;
+    private static String targetName;
+    private static Set<BlockState> targetStates = Collections.emptySet();
+    // Bumped on every reset so results of scans started before it are thrown away.
+    private static int generation;
+    private static BlockPos lastCenter;
+    private static boolean dirty;
+
+    private static class SectionResult{
+        final long key;
+        final int generation;
+        final long scannedAt;
+        final List<BlockPos> matches;
+
+        SectionResult(long key, int generation, long scannedAt, List<BlockPos> matches){
+            this.key = key;
+            this.generation = generation;
+            this.scannedAt = scannedAt;
+            this.matches = matches;
+        }
+    }
+
+    /**
+     * Called every client tick while the player has the scrying effect.
+     * @param target registry name of the block to look for.
+     */
+    public static void tick(PlayerEntity player, String target){
+        World world = player.level;
+        if(world != scannedWorld || !target.equals(targetName)){
+            reset();
+            scannedWorld = world;
+            targetName = target;
+            Block block = ForgeRegistries.BLOCKS.getValue(new ResourceLocation(target));
+            targetStates = block == null ? Collections.emptySet() : new HashSet<>(block.getStateDefinition().getPossibleStates());
+        }
+
+        SectionResult result;
+        while((result = completed.poll()) != null){
+            pending.remove(result.key);
+            if(result.generation != generation)
+                continue;
+            sections.put(result.key, result);
+            dirty = true;
+        }
+
+        BlockPos center = player.blockPosition();
+        int minX = (center.getX() - HORIZONTAL_RANGE) >> 4, maxX = (center.getX() + HORIZONTAL_RANGE) >> 4;
+        int minZ = (center.getZ() - HORIZONTAL_RANGE) >> 4, maxZ = (center.getZ() + HORIZONTAL_RANGE) >> 4;
+        int minY = Math.max(0, center.getY() - VERTICAL_RANGE) >> 4;
+        int maxY = (Math.min(world.getMaxBuildHeight(), center.getY() + VERTICAL_RANGE + 1) - 1) >> 4;
+
+        if(!center.equals(lastCenter)){
+            lastCenter = center;
+            dirty = true;
+            sections.keySet().removeIf(key -> {
+                int x = SectionPos.x(key), y = SectionPos.y(key), z = SectionPos.z(key);
+                return x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ;
+            });
+        }
+
+        long gameTime = world.getGameTime();
+        int budget = SECTIONS_PER_TICK;
+        // New sections first, then the ones due for a refresh.
+        for(int pass = 0; pass < 2 && budget > 0; pass++){
+            for(int chunkX = minX; chunkX <= maxX && budget > 0; chunkX++){
+                for(int chunkZ = minZ; chunkZ <= maxZ && budget > 0; chunkZ++){
+                    Chunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                    if(chunk == null)
+                        continue;
+                    for(int sectionY = minY; sectionY <= maxY && budget > 0; sectionY++){
+                        long key = SectionPos.asLong(chunkX, sectionY, chunkZ);
+                        if(pending.contains(key))
+                            continue;
+                        SectionResult known = sections.get(key);
+                        boolean due = pass == 0 ? known == null : known != null && gameTime - known.scannedAt >= REFRESH_TICKS;
+                        if(!due)
+                            continue;
+                        budget--;
+                        scan(chunk.getSections()[sectionY], key, gameTime);
+                    }
+                }
+            }
+        }
+
+        if(dirty){
+            dirty = false;
+            ClientInfo.scryingPositions = collect(center);
+        }
+    }
+
+    /**
+     * Marks the section holding this position for a scan on the next tick.
+     */
+    public static void invalidate(World world, BlockPos pos){
+        if(world != scannedWorld)
+            return;
+        long key = SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        SectionResult known = sections.get(key);
+        if(known != null)
+            sections.put(key, new SectionResult(key, known.generation, Long.MIN_VALUE / 2, known.matches));
+    }
+
+    /**
+     * Forgets every result, called when the effect ends.
+     */
+    public static void stop(){
+        if(targetName != null)
+            reset();
+    }
+
+    private static void reset(){
+        sections.clear();
+        pending.clear();
+        completed.clear();
+        generation++;
+        scannedWorld = null;
+        targetName = null;
+        targetStates = Collections.emptySet();
+        lastCenter = null;
+        ClientInfo.scryingPositions = new ArrayList<>();
+    }
+
+    private static void scan(ChunkSection section, long key, long gameTime){
+        Set<BlockState> states = targetStates;
+        if(states.isEmpty() || ChunkSection.isEmpty(section) || !section.maybeHas(states::contains)){
+            sections.put(key, new SectionResult(key, generation, gameTime, Collections.emptyList()));
+            dirty = true;
+            return;
+        }
+        SectionSnapshot snapshot = SectionSnapshot.of(section, 0);
+        int scanGeneration = generation;
+        pending.add(key);
+        executor.execute(() -> {
+            List<BlockPos> matches = new ArrayList<>();
+            int baseX = SectionPos.x(key) << 4, baseY = SectionPos.y(key) << 4, baseZ = SectionPos.z(key) << 4;
+            for(int y = 0; y < 16; y++){
+                for(int z = 0; z < 16; z++){
+                    for(int x = 0; x < 16; x++){
+                        if(!snapshot.isAir(x, y, z) && states.contains(snapshot.getBlockState(x, y, z)))
+                            matches.add(new BlockPos(baseX + x, baseY + y, baseZ + z));
+                    }
+                }
+            }
+            completed.add(new SectionResult(key, scanGeneration, gameTime, matches));
+        });
+    }
+
+    /**
+     * Returns the closest matches in range, by manhattan distance like {@link BlockPos#withinManhattan}.
+     */
+    private static List<BlockPos> collect(BlockPos center){
+        List<BlockPos> found = new ArrayList<>();
+        for(SectionResult result : sections.values()){
+            for(BlockPos p : result.matches){
+                if(Math.abs(p.getX() - center.getX()) <= HORIZONTAL_RANGE && Math.abs(p.getY() - center.getY()) <= VERTICAL_RANGE
+                        && Math.abs(p.getZ() - center.getZ()) <= HORIZONTAL_RANGE){
+                    found.add(p);
+                }
+            }
+        }
+        found.sort(Comparator.comparingInt(p -> p.distManhattan(center)));
+        return found.size() > MAX_RESULTS ? new ArrayList<>(found.subList(0, MAX_RESULTS)) : found;
+    }
+}
@@ -13,6 +13,11 @@ import net.minecraft.util.ResourceLocation;
 
 public class GuiManaHUD extends AbstractGui {
     private static final Minecraft minecraft = Minecraft.getInstance();
+    // Mana is synced in steps every few ticks, ease the bar towards the latest value over this many ticks.
+    private static final float SMOOTHING_TICKS = 5.0f;
+
+    private double displayedMana = -1;
+    private float lastFrameTime;
 
     public boolean shouldDisplayBar(){
         ItemStack mainHand = minecraft.player.getMainHandItem();
@@ -31,7 +36,7 @@ public class GuiManaHUD extends AbstractGui {
 
         int offsetLeft = 10;
         int manaLength = 96;
-        manaLength = (int) ((manaLength) * ((mana.getCurrentMana()) / ((double) mana.getMaxMana() - 0.0)));
+        manaLength = (int) ((manaLength) * (getDisplayedMana(mana.getCurrentMana(), pt) / ((double) mana.getMaxMana() - 0.0)));
 
         int height = minecraft.getWindow().getGuiScaledHeight() - 5;
 
@@ -46,4 +51,17 @@ public class GuiManaHUD extends AbstractGui {
         Minecraft.getInstance().textureManager.bind(new ResourceLocation(ArsNouveau.MODID, "textures/gui/manabar_gui_border.png"));
         blit(ms,offsetLeft, height - 17, 0, 18, 108, 20, 256, 256);
     }
+
+    private double getDisplayedMana(double currentMana, float pt){
+        float frameTime = ClientInfo.ticksInGame + pt;
+        float elapsed = frameTime - lastFrameTime;
+        lastFrameTime = frameTime;
+        // Snap when spending mana or after the bar was hidden, only regen is eased.
+        if(displayedMana < 0 || currentMana < displayedMana || elapsed < 0 || elapsed > SMOOTHING_TICKS * 4){
+            displayedMana = currentMana;
+        }else{
+            displayedMana += (currentMana - displayedMana) * Math.min(1.0f, elapsed / SMOOTHING_TICKS);
+        }
+        return displayedMana;
+    }
 }
@@ -0,0 +1,128 @@
+package com.hollingsworth.arsnouveau.client.particle;
+
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.common.network.PacketFollowTrails;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Client side homing trails sent by {@link PacketFollowTrails}.
+ * Each trail moves like {@code EntityFollowProjectile} did, leaving glow particles behind, but is only a few fields in a
+ * list ticked with the client instead of an entity.
+ */
+@Mod.EventBusSubscriber(value = Dist.CLIENT, modid = ArsNouveau.MODID)
+public class FollowTrailEffects {
+
+    private static final int MAX_AGE = 500;
+
+    private static final List<Trail> trails = new ArrayList<>();
+    private static ClientWorld trailWorld;
+
+    public static void add(ClientWorld world, List<PacketFollowTrails.Trail> received){
+        if(world != trailWorld){
+            trails.clear();
+            trailWorld = world;
+        }
+        for(PacketFollowTrails.Trail trail : received){
+            trails.add(new Trail(trail));
+        }
+    }
+
+    @SubscribeEvent
+    public static void clientTick(TickEvent.ClientTickEvent event){
+        if(event.phase != TickEvent.Phase.END || trails.isEmpty())
+            return;
+        ClientWorld world = Minecraft.getInstance().level;
+        if(world != trailWorld){
+            trails.clear();
+            trailWorld = world;
+            return;
+        }
+        if(Minecraft.getInstance().isPaused())
+            return;
+        Iterator<Trail> iterator = trails.iterator();
+        while(iterator.hasNext()){
+            if(!iterator.next().tick(world))
+                iterator.remove();
+        }
+    }
+
+    private static class Trail {
+        final BlockPos dest;
+        final ParticleColor color;
+        final boolean spawnTouch;
+        final int despawnDistance;
+        double x, y, z;
+        double motionX, motionY, motionZ;
+        int age;
+
+        Trail(PacketFollowTrails.Trail trail){
+            this.dest = trail.to;
+            this.color = new ParticleColor((trail.color >> 16) & 255, (trail.color >> 8) & 255, trail.color & 255);
+            this.spawnTouch = trail.spawnTouch;
+            this.despawnDistance = trail.despawnDistance;
+            this.x = trail.from.getX() + 0.5;
+            this.y = trail.from.getY() + 0.5;
+            this.z = trail.from.getZ() + 0.5;
+        }
+
+        /**
+         * @return false once the trail is done.
+         */
+        boolean tick(ClientWorld world){
+            age++;
+            if(age > MAX_AGE)
+                return false;
+            BlockPos blockPos = new BlockPos(x, y, z);
+            double distance = BlockUtil.distanceFrom(blockPos, dest);
+            if(distance < 1 || distance > despawnDistance){
+                if(spawnTouch)
+                    ParticleUtil.spawnTouch(world, new BlockPos(x, y - 0.2, z), color);
+                return false;
+            }
+
+            Vector3d targetVector = new Vector3d(dest.getX() + 0.5 - x, dest.getY() + 0.5 - y, dest.getZ() + 0.5 - z);
+            double length = targetVector.length();
+            targetVector = targetVector.scale(0.3 / length);
+            double weight = 0;
+            if(length <= 3){
+                weight = 0.9 * ((3.0 - length) / 3.0);
+            }
+            motionX = (0.9 - weight) * motionX + (0.1 + weight) * targetVector.x;
+            motionY = (0.9 - weight) * motionY + (0.1 + weight) * targetVector.y;
+            motionZ = (0.9 - weight) * motionZ + (0.1 + weight) * targetVector.z;
+
+            double oldX = x, oldY = y, oldZ = z;
+            x += motionX;
+            y += motionY;
+            z += motionZ;
+            if(age <= 1)
+                return true;
+
+            double dist = Math.ceil(Math.sqrt(motionX * motionX + motionY * motionY + motionZ * motionZ) * 20);
+            int particleSetting = Minecraft.getInstance().options.particles.getId();
+            int counter = 0;
+            for(double i = 0; i < dist; i++){
+                double coeff = i / dist;
+                counter += world.random.nextInt(2);
+                if(counter % (particleSetting == 0 ? 1 : 2 * particleSetting) == 0){
+                    world.addParticle(GlowParticleData.createData(color),
+                            (float) (oldX + motionX * coeff), (float) (oldY + motionY * coeff), (float) (oldZ + motionZ * coeff),
+                            0.0125f * (world.random.nextFloat() - 0.5f), 0.0125f * (world.random.nextFloat() - 0.5f), 0.0125f * (world.random.nextFloat() - 0.5f));
+                }
+            }
+            return true;
+        }
+    }
+}
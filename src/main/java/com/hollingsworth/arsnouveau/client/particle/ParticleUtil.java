@@ -2,9 +2,10 @@ package com.hollingsworth.arsnouveau.client.particle;
 
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
-import com.hollingsworth.arsnouveau.common.entity.EntityFollowProjectile;
+import com.hollingsworth.arsnouveau.api.util.FollowTrailQueue;
 import com.hollingsworth.arsnouveau.common.network.Networking;
 import com.hollingsworth.arsnouveau.common.network.PacketANEffect;
+import com.hollingsworth.arsnouveau.common.network.PacketFollowTrails;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.particles.ParticleTypes;
 import net.minecraft.tileentity.TileEntity;
@@ -47,9 +48,25 @@ public class ParticleUtil {
     }
 
     public static void spawnFollowProjectile(World world, BlockPos from, BlockPos to){
+        spawnFollowProjectile(world, from, to, defaultParticleColorWrapper());
+    }
+
+    public static void spawnFollowProjectile(World world, BlockPos from, BlockPos to, ParticleColor.IntWrapper color){
+        spawnFollowProjectile(world, from, to, color, false, FollowTrailQueue.defaultDespawnDistance(from, to));
+    }
+
+    /**
+     * Sends a homing trail from one block to another to nearby clients, see {@link FollowTrailQueue}.
+     * Does nothing on the client.
+     * @param spawnTouch whether to burst into particles when the trail ends.
+     * @param despawnDistance distance from the destination at which the trail gives up.
+     */
+    public static void spawnFollowProjectile(World world, BlockPos from, BlockPos to, ParticleColor.IntWrapper color, boolean spawnTouch, int despawnDistance){
+        if(world.isClientSide)
+            return;
         if(world.getChunkSource().isEntityTickingChunk(new ChunkPos(from)) && world.getChunkSource().isEntityTickingChunk(new ChunkPos(to))){
-            EntityFollowProjectile aoeProjectile = new EntityFollowProjectile(world, from, to);
-            world.addFreshEntity(aoeProjectile);
+            int packed = (Math.min(color.r, 255) & 255) << 16 | (Math.min(color.g, 255) & 255) << 8 | (Math.min(color.b, 255) & 255);
+            FollowTrailQueue.queue(world, new PacketFollowTrails.Trail(from.immutable(), to.immutable(), packed, spawnTouch, despawnDistance));
         }
     }
 
@@ -145,14 +162,7 @@ public class ParticleUtil {
         int max = 5;
         BlockPos nearPos = new BlockPos(tileEntity.getBlockPos().getX() + rand.nextInt(max - min) + min, tileEntity.getBlockPos().getY(),  tileEntity.getBlockPos().getZ() + rand.nextInt(max - min) + min);
         BlockPos toPos = nearPos.above(rand.nextInt(3) + 10);
-        EntityFollowProjectile proj1 = new EntityFollowProjectile(tileEntity.getLevel(),
-                tileEntity.getBlockPos().above(), toPos,
-                color);
-//                if(getProgress() >= 10)
-        proj1.getEntityData().set(EntityFollowProjectile.SPAWN_TOUCH, true);
-        proj1.getEntityData().set(EntityFollowProjectile.DESPAWN, 15);
-
-        tileEntity.getLevel().addFreshEntity(proj1);
+        spawnFollowProjectile(tileEntity.getLevel(), tileEntity.getBlockPos().above(), toPos, color, true, 15);
 
     }
 
@@ -174,14 +184,7 @@ public class ParticleUtil {
         int max = 5;
         BlockPos nearPos = new BlockPos(tileEntity.getBlockPos().getX() + rand.nextInt(max - min) + min, tileEntity.getBlockPos().getY() + 8,  tileEntity.getBlockPos().getZ() + rand.nextInt(max - min) + min);
         BlockPos toPos = nearPos.below(8);
-        EntityFollowProjectile proj1 = new EntityFollowProjectile(tileEntity.getLevel(),
-                nearPos, toPos,
-                color);
-
-        proj1.getEntityData().set(EntityFollowProjectile.SPAWN_TOUCH, true);
-        proj1.getEntityData().set(EntityFollowProjectile.DESPAWN, 20);
-
-        tileEntity.getLevel().addFreshEntity(proj1);
+        spawnFollowProjectile(tileEntity.getLevel(), nearPos, toPos, color, true, 20);
 
     }
 
@@ -75,7 +75,7 @@ public class IntangibleAirRenderer extends TileEntityRenderer<IntangibleAirTile>
         BlockState renderState = Block.stateById(tileEntityIn.stateID);
         if(renderState == null)
             return;
-        double scale = ((double)tileEntityIn.duration)/(double)tileEntityIn.maxLength;
+        double scale = tileEntityIn.getProgress(partialTicks);
 
         BlockRendererDispatcher blockrendererdispatcher = Minecraft.getInstance().getBlockRenderer();
         Minecraft.getInstance().getTextureManager().bind(PlayerContainer.BLOCK_ATLAS);
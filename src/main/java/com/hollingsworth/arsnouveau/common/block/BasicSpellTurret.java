@@ -3,6 +3,7 @@ package com.hollingsworth.arsnouveau.common.block;
 import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.spell.*;
 import com.hollingsworth.arsnouveau.api.util.ManaUtil;
+import com.hollingsworth.arsnouveau.api.util.TurretFireQueue;
 import com.hollingsworth.arsnouveau.common.block.tile.BasicSpellTurretTile;
 import com.hollingsworth.arsnouveau.common.entity.EntityProjectileSpell;
 import com.hollingsworth.arsnouveau.common.items.SpellParchment;
@@ -57,21 +58,30 @@ public class BasicSpellTurret extends ModBlock{
 
     @Override
     public void tick(BlockState state, ServerWorld worldIn, BlockPos pos, Random rand) {
-        this.shootSpell(worldIn, pos);
+        TurretFireQueue.queue(worldIn, pos);
     }
 
+    /**
+     * Fires this turret right away. Turrets triggered by redstone or timers are fired together by {@link TurretFireQueue}.
+     */
     public void shootSpell(ServerWorld world, BlockPos pos ) {
         BasicSpellTurretTile tile = (BasicSpellTurretTile) world.getBlockEntity(pos);
 
         if(tile == null || tile.spell.isEmpty())
             return;
         int manaCost = tile.getManaCost();
-        if(ManaUtil.takeManaNearbyWithParticles(pos, world, 10, manaCost) == null)
+        if(ManaUtil.takeManaNearbyWithParticles(pos, world, TurretFireQueue.SOURCE_RANGE, manaCost) == null)
             return;
         Networking.sendToNearby(world, pos, new PacketOneShotAnimation(pos));
+        castSpell(world, pos, tile, ANFakePlayer.getPlayer(world));
+    }
+
+    /**
+     * Casts the spell of the turret once its source has been paid.
+     */
+    public void castSpell(ServerWorld world, BlockPos pos, BasicSpellTurretTile tile, FakePlayer fakePlayer){
         IPosition iposition = getDispensePosition(new ProxyBlockSource(world, pos));
         Direction direction = world.getBlockState(pos).getValue(FACING);
-        FakePlayer fakePlayer = ANFakePlayer.getPlayer(world);
         fakePlayer.setPos(pos.getX(), pos.getY(), pos.getZ());
         EntitySpellResolver resolver = new EntitySpellResolver(new SpellContext(tile.spell, fakePlayer).withCastingTile(world.getBlockEntity(pos)).withType(SpellContext.CasterType.TURRET));
         if(resolver.castType instanceof MethodProjectile){
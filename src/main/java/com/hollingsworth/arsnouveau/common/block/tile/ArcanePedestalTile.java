@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
+import com.hollingsworth.arsnouveau.api.enchanting_apparatus.PedestalNetwork;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.item.ItemEntity;
@@ -27,6 +28,25 @@ public class ArcanePedestalTile extends AnimatedTile implements IInventory {
         super(BlockRegistry.ARCANE_PEDESTAL_TILE);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        PedestalNetwork.get(level).join(this);
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if(level != null)
+            PedestalNetwork.get(level).leave(this);
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        PedestalNetwork.get(level).leave(this);
+    }
+
     @Override
     public void load(BlockState state, CompoundNBT compound) {
         stack = ItemStack.of((CompoundNBT)compound.get("itemStack"));
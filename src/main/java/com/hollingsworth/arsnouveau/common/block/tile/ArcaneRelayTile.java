@@ -151,7 +151,6 @@ public class ArcaneRelayTile extends AbstractManaTile implements ITooltipProvide
                 // Transfer mana fromPos to this
                 AbstractManaTile fromTile = (AbstractManaTile) level.getBlockEntity(fromPos);
                 if(transferMana(fromTile, this) > 0){
-                    update();
                     ParticleUtil.spawnFollowProjectile(level, fromPos, worldPosition);
                 }
             }
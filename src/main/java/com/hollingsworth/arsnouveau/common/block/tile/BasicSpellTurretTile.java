@@ -61,13 +61,13 @@ public class BasicSpellTurretTile extends TileEntity implements IPickupResponder
 
     @Override
     public CompoundNBT save(CompoundNBT tag) {
-        tag.putString("spell", spell.serialize());
+        spell.writeToTag(tag, "spell");
         return super.save(tag);
     }
 
     @Override
     public void load(BlockState state, CompoundNBT tag) {
-        this.spell = Spell.deserialize(tag.getString("spell"));
+        this.spell = Spell.readFromTag(tag, "spell");
         super.load(state, tag);
     }
 
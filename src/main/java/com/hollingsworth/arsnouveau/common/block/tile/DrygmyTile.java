@@ -1,15 +1,15 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
-import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.client.ITooltipProvider;
+import com.hollingsworth.arsnouveau.api.loot.EntityDropCache;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.DropDistribution;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.api.util.ManaUtil;
 import com.hollingsworth.arsnouveau.client.particle.GlowParticleData;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.entity.EntityDrygmy;
-import com.hollingsworth.arsnouveau.common.entity.EntityFollowProjectile;
-import com.hollingsworth.arsnouveau.common.mixin.ExpInvokerMixin;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import com.hollingsworth.arsnouveau.setup.Config;
 import com.hollingsworth.arsnouveau.setup.EntityTags;
@@ -17,16 +17,9 @@ import com.hollingsworth.arsnouveau.setup.ItemsRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.loot.LootContext;
-import net.minecraft.loot.LootParameterSets;
-import net.minecraft.loot.LootParameters;
-import net.minecraft.loot.LootTable;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.util.DamageSource;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TranslationTextComponent;
@@ -34,10 +27,10 @@ import net.minecraft.world.server.ServerWorld;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class DrygmyTile extends SummoningTile implements ITooltipProvider {
 
@@ -45,7 +38,18 @@ public class DrygmyTile extends SummoningTile implements ITooltipProvider {
     public int progress;
     public int bonus;
     public boolean needsMana;
-    private List<LivingEntity> nearbyEntities;
+    /**
+     * Number of nearby entities of each type.
+     */
+    private Map<EntityType<?>, Integer> entityCounts;
+    /**
+     * Up to {@link Config#DRYGMY_SAMPLE_ENTITIES} entities of each type, picked at random, to channel and to sample loot from.
+     */
+    private Map<EntityType<?>, List<LivingEntity>> sampleEntities;
+    /**
+     * Loot sampled from the entities of this pen, by type.
+     */
+    private final Map<EntityType<?>, EntityDropCache.Sample> dropSamples = new HashMap<>();
 
     public DrygmyTile() {
         super(BlockRegistry.DRYGMY_TILE);
@@ -79,22 +83,31 @@ public class DrygmyTile extends SummoningTile implements ITooltipProvider {
             level.sendBlockUpdated(worldPosition, level.getBlockState(worldPosition), level.getBlockState(worldPosition), 3);
         }
 
-        if(!level.isClientSide && level.getGameTime() % 100 == 0 && !needsMana && progress >= getMaxProgress() && !getNearbyEntities().isEmpty()){
+        if(!level.isClientSide && level.getGameTime() % 100 == 0 && !needsMana && progress >= getMaxProgress() && !getEntityCounts().isEmpty()){
             generateItems();
         }
     }
 
-    public List<LivingEntity> getNearbyEntities(){
-        if (nearbyEntities == null)
+    public Map<EntityType<?>, Integer> getEntityCounts(){
+        if (entityCounts == null)
             this.refreshEntitiesAndBonus();
 
-        return nearbyEntities;
+        return entityCounts;
     }
 
     public @Nullable LivingEntity getRandomEntity(){
-        if(getNearbyEntities().isEmpty())
+        if(getEntityCounts().isEmpty())
             return null;
-        return getNearbyEntities().get(new Random().nextInt(getNearbyEntities().size()));
+        List<LivingEntity> candidates = new ArrayList<>();
+        for(List<LivingEntity> entities : sampleEntities.values()){
+            for(LivingEntity entity : entities){
+                if(!entity.removed && entity.isAlive())
+                    candidates.add(entity);
+            }
+        }
+        if(candidates.isEmpty())
+            return null;
+        return candidates.get(level.random.nextInt(candidates.size()));
     }
 
     public void giveProgress(){
@@ -126,58 +139,59 @@ public class DrygmyTile extends SummoningTile implements ITooltipProvider {
             Random r = level.random;
             int min = -2;
             int max = 2;
-            EntityFollowProjectile proj1 = new EntityFollowProjectile(level, worldPosition.offset(r.nextInt(max - min) + min, 3, r.nextInt(max - min) + min), worldPosition, r.nextInt(255), r.nextInt(255), r.nextInt(255));
-            level.addFreshEntity(proj1);
+            ParticleUtil.spawnFollowProjectile(level, worldPosition.offset(r.nextInt(max - min) + min, 3, r.nextInt(max - min) + min), worldPosition,
+                    new ParticleColor.IntWrapper(r.nextInt(255), r.nextInt(255), r.nextInt(255)));
         }
     }
 
     public void refreshEntitiesAndBonus(){
-        Set<ResourceLocation> uniqueEntities;
-        this.nearbyEntities = level.getEntitiesOfClass(LivingEntity.class, new AxisAlignedBB(getBlockPos().north(10).west(10).below(6), getBlockPos().south(10).east(10).above(6)));
-        this.nearbyEntities = this.nearbyEntities.stream().filter(l -> !(l instanceof EntityDrygmy) && !(l instanceof PlayerEntity)).collect(Collectors.toList());
-        uniqueEntities = nearbyEntities.stream().map(l -> EntityType.getKey(l.getType())).collect(Collectors.toSet());
-        this.bonus = uniqueEntities.size() * Config.DRYGMY_UNIQUE_BONUS.get() + Math.min(Config.DRYGMY_QUANTITY_CAP.get(), nearbyEntities.size());
+        List<LivingEntity> nearbyEntities = EntityQueryCache.getEntitiesOfClass(level, LivingEntity.class, new AxisAlignedBB(getBlockPos().north(10).west(10).below(6), getBlockPos().south(10).east(10).above(6)),
+                l -> !(l instanceof EntityDrygmy) && !(l instanceof PlayerEntity));
+        this.entityCounts = new HashMap<>();
+        this.sampleEntities = new HashMap<>();
+        int maxSamples = Config.DRYGMY_SAMPLE_ENTITIES.get();
+        for(LivingEntity entity : nearbyEntities){
+            int seen = entityCounts.merge(entity.getType(), 1, Integer::sum);
+            List<LivingEntity> samples = sampleEntities.computeIfAbsent(entity.getType(), k -> new ArrayList<>());
+            // Reservoir sampling, every entity of the type is equally likely to be kept whatever order they are found in.
+            if(samples.size() < maxSamples){
+                samples.add(entity);
+            }else{
+                int slot = level.random.nextInt(seen);
+                if(slot < maxSamples)
+                    samples.set(slot, entity);
+            }
+        }
+        this.bonus = entityCounts.size() * Config.DRYGMY_UNIQUE_BONUS.get() + Math.min(Config.DRYGMY_QUANTITY_CAP.get(), nearbyEntities.size());
     }
 
     public void generateItems(){
-        List<ItemStack> stacks = new ArrayList<>();
-        ANFakePlayer fakePlayer = ANFakePlayer.getPlayer((ServerWorld) level);
-        DamageSource damageSource = DamageSource.playerAttack(fakePlayer);
         int numberItems = Config.DRYGMY_BASE_ITEM.get() + this.bonus;
-        int exp = 0;
-        // Create the loot table and exp count
-        for(LivingEntity entity : getNearbyEntities()){
-            if(entity.getType().is(EntityTags.DRYGMY_BLACKLIST)) {
+        double expTotal = 0;
+        // Weigh the sampled drops of each type by how many of that type are nearby
+        Map<ItemStack, Integer> weights = new HashMap<>();
+        for(Map.Entry<EntityType<?>, Integer> entry : getEntityCounts().entrySet()){
+            if(entry.getKey().is(EntityTags.DRYGMY_BLACKLIST)) {
                 continue;
             }
 
-            LootTable loottable = this.level.getServer().getLootTables().get(entity.getLootTable());
-            LootContext.Builder lootcontext$builder = (new LootContext.Builder((ServerWorld)this.level)).withRandom(level.getRandom())
-                    .withParameter(LootParameters.THIS_ENTITY, entity).withParameter(LootParameters.ORIGIN, entity.position())
-                    .withParameter(LootParameters.DAMAGE_SOURCE, damageSource)
-                    .withOptionalParameter(LootParameters.KILLER_ENTITY, fakePlayer.getEntity())
-                    .withOptionalParameter(LootParameters.DIRECT_KILLER_ENTITY, damageSource.getDirectEntity());
-            lootcontext$builder = lootcontext$builder.withParameter(LootParameters.LAST_DAMAGE_PLAYER, fakePlayer)
-                    .withLuck(fakePlayer.getLuck());
-
-            LootContext ctx = lootcontext$builder.create(LootParameterSets.ENTITY);
-            stacks.addAll(loottable.getRandomItems(ctx));
-            int oldExp = 0;
-            if(entity instanceof MobEntity){
-                oldExp = ((MobEntity) entity).xpReward;
-            }
-            exp += ((ExpInvokerMixin) entity).an_getExperienceReward(fakePlayer);
-
-            if(entity instanceof MobEntity){
-                // EVERY TIME GET EXPERIENCE REWARD IS CALLED IN ZOMBIE ENTITY IT MULTIPLIES BY 2.5X.
-                ((MobEntity) entity).xpReward = oldExp;
+            EntityDropCache.Sample sample = EntityDropCache.getSample((ServerWorld) level, sampleEntities.get(entry.getKey()), dropSamples);
+            for(ItemStack stack : sample.stacks){
+                weights.put(stack, entry.getValue());
             }
+            expTotal += sample.experience * entry.getValue();
         }
+        // Forget the samples of types that left the pen
+        dropSamples.keySet().retainAll(getEntityCounts().keySet());
         // Pull our items randomly and break once our stack count is over our max item list
         int itemsPicked = 0;
-        if(stacks.size() > 0) {
+        if(!weights.isEmpty()) {
+            DropDistribution<ItemStack> drops = new DropDistribution<>(weights);
             for (int i = 0; i < numberItems; i++) {
-                ItemStack stack = stacks.get(level.random.nextInt(stacks.size())).copy();
+                ItemStack stack = drops.nextDrop();
+                if(stack == null)
+                    break;
+                stack = stack.copy();
                 itemsPicked += stack.getCount();
                 BlockUtil.insertItemAdjacent(level, worldPosition, stack);
                 if(itemsPicked >= numberItems)
@@ -185,7 +199,7 @@ public class DrygmyTile extends SummoningTile implements ITooltipProvider {
             }
         }
 
-        exp *= .25;
+        int exp = (int) (expTotal * .25);
         if(exp > 3){
             int numGreater = exp / 12;
             exp -= numGreater * 12;
@@ -1,7 +1,8 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
-import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import com.hollingsworth.arsnouveau.api.enchanting_apparatus.ApparatusRecipeIndex;
 import com.hollingsworth.arsnouveau.api.enchanting_apparatus.IEnchantingRecipe;
+import com.hollingsworth.arsnouveau.api.enchanting_apparatus.PedestalNetwork;
 import com.hollingsworth.arsnouveau.api.util.ManaUtil;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
@@ -36,6 +37,9 @@ public class EnchantingApparatusTile extends AnimatedTile implements IInventory
     private int craftingLength = 100;
     public boolean isCrafting;
 
+    private List<ArcanePedestalTile> pedestals;
+    private int pedestalVersion;
+
     public EnchantingApparatusTile() {
         super(BlockRegistry.ENCHANTING_APP_TILE);
         counter = 1;
@@ -74,40 +78,49 @@ public class EnchantingApparatusTile extends AnimatedTile implements IInventory
 
 
     public void clearItems(){
-        BlockPos.betweenClosedStream(this.getBlockPos().offset(5, -3, 5), this.getBlockPos().offset(-5, 3, -5)).forEach(blockPos -> {
-            if (level.getBlockEntity(blockPos) instanceof ArcanePedestalTile && ((ArcanePedestalTile) level.getBlockEntity(blockPos)).stack != null) {
-                ArcanePedestalTile tile = ((ArcanePedestalTile) level.getBlockEntity(blockPos));
-                tile.stack = tile.stack == null ? ItemStack.EMPTY : tile.stack.getContainerItem();
-                BlockState state = level.getBlockState(blockPos);
-                level.sendBlockUpdated(blockPos, state, state, 3);
+        for(ArcanePedestalTile tile : getPedestals()){
+            if(tile.stack != null) {
+                tile.stack = tile.stack.getContainerItem();
+                BlockState state = level.getBlockState(tile.getBlockPos());
+                level.sendBlockUpdated(tile.getBlockPos(), state, state, 3);
             }
-        });
+        }
+    }
+
+    /**
+     * Returns the pedestals within 5 blocks horizontally and 3 vertically, reusing the last list until a pedestal
+     * joins or leaves the {@link PedestalNetwork}.
+     */
+    public List<ArcanePedestalTile> getPedestals(){
+        PedestalNetwork network = PedestalNetwork.get(level);
+        if(pedestals == null || pedestalVersion != network.getVersion()){
+            pedestals = network.getInRange(worldPosition, 5, 3);
+            pedestalVersion = network.getVersion();
+        }
+        return pedestals;
     }
 
     // Used for rendering on the client
     public List<BlockPos> pedestalList(){
         ArrayList<BlockPos> posList = new ArrayList<>();
-        BlockPos.betweenClosedStream(this.getBlockPos().offset(5, -3, 5), this.getBlockPos().offset(-5, 3, -5)).forEach(blockPos -> {
-            if(level.getBlockEntity(blockPos) instanceof ArcanePedestalTile && ((ArcanePedestalTile) level.getBlockEntity(blockPos)).stack != null &&  !((ArcanePedestalTile) level.getBlockEntity(blockPos)).stack.isEmpty()) {
-                posList.add(blockPos.immutable());
-            }
-        });
+        for(ArcanePedestalTile tile : getPedestals()){
+            if(tile.stack != null && !tile.stack.isEmpty())
+                posList.add(tile.getBlockPos());
+        }
         return posList;
     }
 
     public List<ItemStack> getPedestalItems(){
         ArrayList<ItemStack> pedestalItems = new ArrayList<>();
-        BlockPos.betweenClosedStream(this.getBlockPos().offset(5, -3, 5), this.getBlockPos().offset(-5, 3, -5)).forEach(blockPos -> {
-            if(level.getBlockEntity(blockPos) instanceof ArcanePedestalTile && ((ArcanePedestalTile) level.getBlockEntity(blockPos)).stack != null && !((ArcanePedestalTile) level.getBlockEntity(blockPos)).stack.isEmpty()) {
-                pedestalItems.add(((ArcanePedestalTile) level.getBlockEntity(blockPos)).stack);
-            }
-        });
+        for(ArcanePedestalTile tile : getPedestals()){
+            if(tile.stack != null && !tile.stack.isEmpty())
+                pedestalItems.add(tile.stack);
+        }
         return pedestalItems;
     }
 
     public IEnchantingRecipe getRecipe(ItemStack stack, @Nullable PlayerEntity playerEntity){
-        List<ItemStack> pedestalItems = getPedestalItems();
-        return ArsNouveauAPI.getInstance().getEnchantingApparatusRecipes(level).stream().filter(r-> r.isMatch(pedestalItems, stack, this, playerEntity)).findFirst().orElse(null);
+        return ApparatusRecipeIndex.get(level).getRecipe(getPedestalItems(), stack, this, playerEntity);
     }
 
     public boolean attemptCraft(ItemStack catalyst, @Nullable PlayerEntity playerEntity){
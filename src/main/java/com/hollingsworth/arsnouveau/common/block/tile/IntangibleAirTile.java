@@ -1,50 +1,86 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
+import com.hollingsworth.arsnouveau.api.util.TemporaryBlockScheduler;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.server.ServerWorld;
 
 import javax.annotation.Nullable;
 
-public class IntangibleAirTile extends TileEntity implements ITickableTileEntity {
-    public int duration;
+/**
+ * Remembers the block hidden by intangible air, so it can be drawn fading back in.
+ * The block is restored by the {@link TemporaryBlockScheduler}, so this tile does not tick.
+ */
+public class IntangibleAirTile extends TileEntity {
     public int maxLength;
     public int stateID;
+    public long startTick;
+    private boolean scheduled;
+    // Elapsed ticks saved by tiles from before the scheduler, used once to schedule their remaining time.
+    private int legacyDuration = -1;
 
     public IntangibleAirTile() {
         super(BlockRegistry.INTANGIBLE_AIR_TYPE);
     }
 
+    /**
+     * Hides the given state for a number of ticks.
+     */
+    public void startExpiry(int stateID, int length){
+        this.stateID = stateID;
+        this.maxLength = length;
+        this.startTick = level.getGameTime();
+        schedule(length);
+        setChanged();
+        level.sendBlockUpdated(worldPosition, getBlockState(), getBlockState(), 2);
+    }
+
+    /**
+     * Returns how far along the duration is, from 0 to 1.
+     */
+    public double getProgress(float partialTicks){
+        if(maxLength <= 0 || level == null)
+            return 0;
+        return Math.min(1.0, Math.max(0.0, (level.getGameTime() - startTick + partialTicks) / maxLength));
+    }
+
     @Override
-    public void tick() {
-        if(level.isClientSide)
-            return;
-        duration++;
-        if(duration > maxLength){
-            level.setBlockAndUpdate(worldPosition, Block.stateById(stateID));
+    public void onLoad() {
+        super.onLoad();
+        if(!level.isClientSide && !scheduled && legacyDuration >= 0 && maxLength > 0){
+            startTick = level.getGameTime() - legacyDuration;
+            schedule(maxLength - legacyDuration);
+        }
+    }
 
+    private void schedule(int ticks){
+        if(level instanceof ServerWorld){
+            TemporaryBlockScheduler.get((ServerWorld) level).schedule((ServerWorld) level, worldPosition, BlockRegistry.INTANGIBLE_AIR, Block.stateById(stateID), ticks);
+            scheduled = true;
         }
-        level.sendBlockUpdated(this.worldPosition, level.getBlockState(worldPosition),  level.getBlockState(worldPosition), 2);
     }
 
     @Override
     public void load(BlockState state, CompoundNBT nbt) {
         stateID = nbt.getInt("state_id");
-        duration = nbt.getInt("duration");
         maxLength = nbt.getInt("max_length");
+        startTick = nbt.getLong("start_tick");
+        scheduled = nbt.getBoolean("scheduled");
+        legacyDuration = nbt.contains("duration") ? nbt.getInt("duration") : -1;
         super.load(state, nbt);
     }
 
     @Override
     public CompoundNBT save(CompoundNBT compound) {
         compound.putInt("state_id", stateID);
-        compound.putInt("duration", duration);
         compound.putInt("max_length", maxLength);
+        compound.putLong("start_tick", startTick);
+        compound.putBoolean("scheduled", scheduled);
         return super.save(compound);
     }
 
@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.common.datagen.Recipes;
 import com.hollingsworth.arsnouveau.common.network.Networking;
@@ -33,7 +34,7 @@ public class MycelialSourcelinkTile extends SourcelinkTile{
         if(level.isClientSide)
             return;
         if(level.getGameTime() % 40 == 0 && this.canAcceptMana()){
-            for(ItemEntity i : level.getEntitiesOfClass(ItemEntity.class, new AxisAlignedBB(worldPosition).inflate(1.0))){
+            for(ItemEntity i : EntityQueryCache.getEntitiesOfClass(level, ItemEntity.class, new AxisAlignedBB(worldPosition).inflate(1.0))){
                 if(i.getItem().getItem().isEdible()){
                    int source = getSourceValue(i.getItem());
                     this.addMana(source);
@@ -1,58 +1,112 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
+import com.hollingsworth.arsnouveau.api.util.TemporaryBlockScheduler;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.IntNBT;
-import net.minecraft.tileentity.ITickableTileEntity;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.play.server.SUpdateTileEntityPacket;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.server.ServerWorld;
 import software.bernie.geckolib3.core.IAnimatable;
 import software.bernie.geckolib3.core.manager.AnimationData;
 import software.bernie.geckolib3.core.manager.AnimationFactory;
 
-public class PhantomBlockTile extends AnimatedTile implements ITickableTileEntity, IAnimatable {
+import javax.annotation.Nullable;
+
+/**
+ * Mage block. Temporary ones are removed by the {@link TemporaryBlockScheduler}, so this tile does not tick.
+ */
+public class PhantomBlockTile extends TileEntity implements IAnimatable {
 
-    int age;
     public boolean isPermanent;
     public double lengthModifier;
     public ParticleColor color = ParticleUtil.defaultParticleColor();
+    private boolean scheduled;
+    // Age saved by tiles from before the scheduler, used once to schedule their remaining time.
+    private int legacyAge = -1;
+
     public PhantomBlockTile() {
         super(BlockRegistry.PHANTOM_TILE);
     }
 
+    /**
+     * Schedules the removal of this block, or cancels any removal left at its position if it is permanent.
+     * Call after setting the fields.
+     */
+    public void startExpiry(){
+        schedule(getLifetime());
+    }
+
+    //15 seconds, plus 5 per duration
+    private int getLifetime(){
+        return (int) (20 * 15 + 20 * 5 * lengthModifier);
+    }
+
     @Override
-    public void tick() {
-        if(isPermanent)
+    public void onLoad() {
+        super.onLoad();
+        if(level.isClientSide)
+            return;
+        if(isPermanent){
+            schedule(0);
+        }else if(!scheduled && legacyAge >= 0){
+            schedule(getLifetime() - legacyAge);
+        }
+    }
+
+    private void schedule(int ticks){
+        if(!(level instanceof ServerWorld))
+            return;
+        TemporaryBlockScheduler scheduler = TemporaryBlockScheduler.get((ServerWorld) level);
+        if(isPermanent){
+            // A temporary mage block broken here may have left its removal behind, which would destroy this one.
+            scheduler.cancel(worldPosition);
             return;
-        if(!level.isClientSide){
-            age++;
-            //15 seconds
-            if(age > (20 * 15 + 20 * 5 * lengthModifier)){
-                level.destroyBlock(this.getBlockPos(), false);
-                level.removeBlockEntity(this.getBlockPos());
-            }
         }
+        scheduler.schedule((ServerWorld) level, worldPosition, BlockRegistry.PHANTOM_BLOCK, null, ticks);
+        scheduled = true;
+        setChanged();
     }
 
     @Override
     public void load(BlockState state, CompoundNBT compound) {
         super.load(state,compound);
-        this.age = compound.getInt("age");
         this.color = ParticleColor.IntWrapper.deserialize(compound.getString("color")).toParticleColor();
         this.isPermanent = compound.getBoolean("permanent");
         this.lengthModifier = compound.getDouble("modifier");
+        this.scheduled = compound.getBoolean("scheduled");
+        this.legacyAge = compound.contains("age") ? compound.getInt("age") : -1;
     }
 
     @Override
     public CompoundNBT save(CompoundNBT compound) {
-        compound.put("age", IntNBT.valueOf(age));
         compound.putString("color", color.toWrapper().serialize());
         compound.putBoolean("permanent", isPermanent);
         compound.putDouble("modifier", lengthModifier);
+        compound.putBoolean("scheduled", scheduled);
         return super.save(compound);
     }
 
+    @Override
+    @Nullable
+    public SUpdateTileEntityPacket getUpdatePacket() {
+        return new SUpdateTileEntityPacket(this.worldPosition, 3, this.getUpdateTag());
+    }
+
+    @Override
+    public CompoundNBT getUpdateTag() {
+        return this.save(new CompoundNBT());
+    }
+
+    @Override
+    public void onDataPacket(NetworkManager net, SUpdateTileEntityPacket pkt) {
+        super.onDataPacket(net, pkt);
+        handleUpdateTag(level.getBlockState(worldPosition),pkt.getTag());
+    }
+
     @Override
     public void registerControllers(AnimationData data) {
 
@@ -6,6 +6,7 @@ import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
 import com.hollingsworth.arsnouveau.api.spell.ILightable;
 import com.hollingsworth.arsnouveau.api.spell.SpellContext;
 import com.hollingsworth.arsnouveau.api.spell.SpellStats;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.api.util.ManaUtil;
 import com.hollingsworth.arsnouveau.client.particle.GlowParticleData;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
@@ -96,7 +97,7 @@ public class RitualTile extends TileEntity implements ITickableTileEntity, ITool
                 return;
             }
             if(!ritual.isRunning() && !level.isClientSide){
-                level.getEntitiesOfClass(ItemEntity.class, new AxisAlignedBB(getBlockPos()).inflate(1)).forEach(i ->{
+                EntityQueryCache.getEntitiesOfClass(level, ItemEntity.class, new AxisAlignedBB(getBlockPos()).inflate(1)).forEach(i ->{
                     if(ritual.canConsumeItem(i.getItem())){
                         ritual.onItemConsumed(i.getItem());
                         ParticleUtil.spawnPoof((ServerWorld) level, i.blockPosition());
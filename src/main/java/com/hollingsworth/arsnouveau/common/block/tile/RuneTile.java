@@ -83,7 +83,7 @@ public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimata
 
     @Override
     public CompoundNBT save(CompoundNBT tag) {
-        tag.putString("spell", recipe.serialize());
+        recipe.writeToTag(tag, "spell");
         tag.putBoolean("charged", isCharged);
         tag.putBoolean("temp", isTemporary);
         tag.putInt("cooldown", ticksUntilCharge);
@@ -96,7 +96,7 @@ public class RuneTile extends AnimatedTile implements IPickupResponder, IAnimata
 
     @Override
     public void load( BlockState state, CompoundNBT tag) {
-        this.recipe = Spell.deserialize(tag.getString("spell"));
+        this.recipe = Spell.readFromTag(tag, "spell");
         this.isCharged = tag.getBoolean("charged");
         this.isTemporary = tag.getBoolean("temp");
         this.ticksUntilCharge = tag.getInt("cooldown");
@@ -48,11 +48,6 @@ public class SourcelinkTile extends AbstractManaTile implements IAnimatable {
     public void tick() {
         if(level.isClientSide)
             return;
-        if(level.getGameTime() % 120 == 0 && usesEventQueue()){
-            SourcelinkEventQueue.addPosition(level, this.worldPosition);
-            registered = true;
-        }
-
         if(level.getGameTime() % 100 == 0 && getCurrentMana() > 0){
             BlockPos jarPos = ManaUtil.canGiveManaClosest(worldPosition, level, 5);
             if(jarPos != null){
@@ -72,13 +67,38 @@ public class SourcelinkTile extends AbstractManaTile implements IAnimatable {
         return inventories;
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if(!level.isClientSide && usesEventQueue()){
+            SourcelinkEventQueue.register(this);
+            registered = true;
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        if(registered)
+            SourcelinkEventQueue.unregister(this);
+        registered = false;
+        super.setRemoved();
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        if(registered)
+            SourcelinkEventQueue.unregister(this);
+        registered = false;
+        super.onChunkUnloaded();
+    }
+
     public void getManaEvent(BlockPos sourcePos, int total){
         this.addMana(total);
         ParticleUtil.spawnFollowProjectile(level, sourcePos, this.worldPosition);
     }
 
     public boolean eventInRange(BlockPos sourcePos, @Nullable Event event){
-        return BlockUtil.distanceFrom(this.worldPosition, sourcePos) <= 15;
+        return BlockUtil.distanceFrom(this.worldPosition, sourcePos) <= SourcelinkEventQueue.EVENT_RANGE;
     }
 
     public boolean usesEventQueue(){
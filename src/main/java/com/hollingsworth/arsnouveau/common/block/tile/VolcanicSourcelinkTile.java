@@ -1,5 +1,6 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.common.datagen.Recipes;
 import com.hollingsworth.arsnouveau.common.network.Networking;
@@ -37,7 +38,7 @@ public class VolcanicSourcelinkTile extends SourcelinkTile implements IAnimatabl
         if(level.isClientSide)
             return;
         if(level.getGameTime() % 20 == 0 && this.canAcceptMana()){
-            for(ItemEntity i : level.getEntitiesOfClass(ItemEntity.class, new AxisAlignedBB(worldPosition).inflate(1.0))){
+            for(ItemEntity i : EntityQueryCache.getEntitiesOfClass(level, ItemEntity.class, new AxisAlignedBB(worldPosition).inflate(1.0))){
                 int source = getSourceValue(i.getItem());
                 if(source > 0) {
                     this.addMana(source);
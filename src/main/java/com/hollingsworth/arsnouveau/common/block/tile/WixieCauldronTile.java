@@ -1,16 +1,16 @@
 package com.hollingsworth.arsnouveau.common.block.tile;
 
-import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
 import com.hollingsworth.arsnouveau.api.client.ITooltipProvider;
 import com.hollingsworth.arsnouveau.api.recipe.PotionIngredient;
 import com.hollingsworth.arsnouveau.api.recipe.RecipeWrapper;
-import com.hollingsworth.arsnouveau.api.recipe.ShapedHelper;
+import com.hollingsworth.arsnouveau.api.recipe.WixieRecipeIndex;
+import com.hollingsworth.arsnouveau.api.util.InventoryCountCache;
 import com.hollingsworth.arsnouveau.api.util.ManaUtil;
 import com.hollingsworth.arsnouveau.api.util.NBTUtil;
+import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.WixieCauldron;
 import com.hollingsworth.arsnouveau.common.entity.EntityFlyingItem;
-import com.hollingsworth.arsnouveau.common.entity.EntityFollowProjectile;
 import com.hollingsworth.arsnouveau.common.entity.EntityWixie;
 import com.hollingsworth.arsnouveau.common.util.PortUtil;
 import com.hollingsworth.arsnouveau.common.util.PotionUtil;
@@ -19,15 +19,12 @@ import net.minecraft.block.BlockState;
 import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.CraftingInventory;
-import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.container.Container;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.Ingredient;
-import net.minecraft.item.crafting.ShapedRecipe;
-import net.minecraft.item.crafting.ShapelessRecipe;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SUpdateTileEntityPacket;
@@ -41,7 +38,6 @@ import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
-import net.minecraftforge.common.brewing.BrewingRecipe;
 
 import javax.annotation.Nullable;
 import java.util.*;
@@ -165,8 +161,7 @@ public class WixieCauldronTile extends TileEntity implements ITickableTileEntity
                     int g = (color >> 8) & 0xFF;
                     int b = (color >> 0) & 0xFF;
                     int a = (color >> 24) & 0xFF;
-                    EntityFollowProjectile aoeProjectile = new EntityFollowProjectile(level, worldPosition, jarPos, r,g,b);
-                    level.addFreshEntity(aoeProjectile);
+                    ParticleUtil.spawnFollowProjectile(level, worldPosition, jarPos, new ParticleColor.IntWrapper(r, g, b));
                     this.hasMana = false;
                     level.setBlockAndUpdate(worldPosition, level.getBlockState(worldPosition).setValue(WixieCauldron.FILLED, false));
                     craftManager = new CraftingProgress();
@@ -210,33 +205,13 @@ public class WixieCauldronTile extends TileEntity implements ITickableTileEntity
     }
 
     public void setRecipes(PlayerEntity playerEntity, ItemStack stack){
-        RecipeWrapper recipes = new RecipeWrapper();
+        RecipeWrapper recipes;
         if(stack.getItem() == Items.POTION){
-            for(BrewingRecipe r : ArsNouveauAPI.getInstance().getAllPotionRecipes()){
-                if(ItemStack.matches(stack, r.getOutput())) {
-                    isCraftingPotion = true;
-                    List<Ingredient> list = new ArrayList<>();
-                    list.add(new PotionIngredient(r.getInput().getItems()[0]));
-                    list.add(r.getIngredient());
-                    recipes.addRecipe(list, r.getOutput(), null);
-                }
-            }
+            recipes = WixieRecipeIndex.getPotionRecipes(stack);
+            if(!recipes.recipes.isEmpty())
+                isCraftingPotion = true;
         }else {
-            for (IRecipe r : level.getServer().getRecipeManager().getRecipes()) {
-                if (r.getResultItem().getItem() != stack.getItem())
-                    continue;
-
-                if (r instanceof ShapedRecipe) {
-                    ShapedHelper helper = new ShapedHelper((ShapedRecipe) r);
-                    for (List<Ingredient> iList : helper.getPossibleRecipes()) {
-                        recipes.addRecipe(iList, r.getResultItem(), r);
-                    }
-                }
-
-                if (r instanceof ShapelessRecipe)
-                    recipes.addRecipe(r.getIngredients(), r.getResultItem(), r);
-
-            }
+            recipes = WixieRecipeIndex.getCraftingRecipes(level.getServer().getRecipeManager(), stack.getItem());
             if(!recipes.recipes.isEmpty())
                 isCraftingPotion = false;
         }
@@ -255,11 +230,7 @@ public class WixieCauldronTile extends TileEntity implements ITickableTileEntity
 
 
     public void updateInventories() {
-        inventories = new ArrayList<>();
-        for (BlockPos bPos : BlockPos.betweenClosed(worldPosition.north(6).east(6).below(2), worldPosition.south(6).west(6).above(2))) {
-            if (level.getBlockEntity(bPos) instanceof IInventory)
-                inventories.add(bPos.immutable());
-        }
+        inventories = InventoryCountCache.findInventories(level, worldPosition.north(6).east(6).below(2), worldPosition.south(6).west(6).above(2));
     }
 
     public @Nullable BlockPos findPotionStorage(Potion passedPot){
@@ -325,36 +296,15 @@ public class WixieCauldronTile extends TileEntity implements ITickableTileEntity
             Random r = level.random;
             int min = -2;
             int max = 2;
-            EntityFollowProjectile proj1 = new EntityFollowProjectile(level, worldPosition.offset(r.nextInt(max - min) + min, 3, r.nextInt(max - min) + min), worldPosition, r.nextInt(255), r.nextInt(255), r.nextInt(255));
-            level.addFreshEntity(proj1);
+            ParticleUtil.spawnFollowProjectile(level, worldPosition.offset(r.nextInt(max - min) + min, 3, r.nextInt(max - min) + min), worldPosition,
+                    new ParticleColor.IntWrapper(r.nextInt(255), r.nextInt(255), r.nextInt(255)));
         }
     }
 
     private Map<Item, Integer> getInventoryCount(){
-        List<BlockPos> stale = new ArrayList<>();
-        Map<Item, Integer> itemsAvailable = new HashMap<>();
         if(inventories == null)
-            return itemsAvailable;
-        for(BlockPos p : inventories){
-            if(level.getBlockEntity(p) instanceof IInventory){
-                IInventory inventory = (IInventory) level.getBlockEntity(p);
-                for(int i = 0; i < inventory.getContainerSize(); i++){
-                    ItemStack stack = inventory.getItem(i);
-                    if(!itemsAvailable.containsKey(stack.getItem())) {
-                        itemsAvailable.put(stack.getItem(), stack.getCount());
-                        continue;
-                    }
-                    itemsAvailable.put(stack.getItem(), itemsAvailable.get(stack.getItem()) + stack.getCount());
-                }
-            }else {
-                stale.add(p);
-            }
-        }
-
-        for(BlockPos p : stale){
-            inventories.remove(p);
-        }
-        return itemsAvailable;
+            return new HashMap<>();
+        return InventoryCountCache.getCounts(level, inventories);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.capability;
 
 import com.hollingsworth.arsnouveau.api.mana.IMana;
+import com.hollingsworth.arsnouveau.api.mana.ManaStats;
 import net.minecraft.entity.LivingEntity;
 
 import javax.annotation.Nullable;
@@ -17,6 +18,7 @@ public class Mana implements IMana {
 
     private int bookTier;
 
+    private ManaStats manaStats;
 
     public Mana(@Nullable final LivingEntity entity) {
         this.livingEntity = entity;
@@ -70,6 +72,8 @@ public class Mana implements IMana {
 
     @Override
     public void setGlyphBonus(int glyphBonus){
+        if(this.glyphBonus != glyphBonus)
+            this.manaStats = null;
         this.glyphBonus = glyphBonus;
     }
 
@@ -80,6 +84,19 @@ public class Mana implements IMana {
 
     @Override
     public void setBookTier(int bookTier){
+        if(this.bookTier != bookTier)
+            this.manaStats = null;
         this.bookTier = bookTier;
     }
+
+    @Nullable
+    @Override
+    public ManaStats getManaStats() {
+        return manaStats;
+    }
+
+    @Override
+    public void setManaStats(@Nullable ManaStats manaStats) {
+        this.manaStats = manaStats;
+    }
 }
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.command;
 
 import com.google.common.collect.ImmutableList;
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.Pathfinding;
 import com.hollingsworth.arsnouveau.common.network.Networking;
 import com.hollingsworth.arsnouveau.common.network.PacketTogglePathing;
 import com.mojang.brigadier.CommandDispatcher;
@@ -8,6 +9,7 @@ import net.minecraft.command.CommandSource;
 import net.minecraft.command.Commands;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.text.StringTextComponent;
 import net.minecraftforge.fml.network.PacketDistributor;
 
 public class PathCommand {
@@ -15,9 +17,22 @@ public class PathCommand {
     public static void register(CommandDispatcher<CommandSource> dispatcher) {
         dispatcher.register(Commands.literal("ars-pathing").
                 requires(sender -> sender.hasPermission(2))
+                .then(Commands.literal("stats").executes(context -> showStats(context.getSource())))
+                .then(Commands.literal("reset").executes(context -> resetStats(context.getSource())))
                 .executes(context -> setPathing(context.getSource(), ImmutableList.of(context.getSource().getEntityOrException()))));
     }
 
+    private static int showStats(CommandSource source) {
+        source.sendSuccess(new StringTextComponent(Pathfinding.getStats()), false);
+        return 1;
+    }
+
+    private static int resetStats(CommandSource source) {
+        Pathfinding.resetStats();
+        source.sendSuccess(new StringTextComponent("Pathfinding stats reset"), true);
+        return 1;
+    }
+
     private static int setPathing(CommandSource source, ImmutableList<? extends Entity> of) {
         Networking.INSTANCE.send(PacketDistributor.PLAYER.with(()-> (ServerPlayerEntity) of.get(0)),
                 new PacketTogglePathing());
@@ -0,0 +1,165 @@
+package com.hollingsworth.arsnouveau.common.command;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.spell.SpellMetrics;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.util.text.StringTextComponent;
+import org.apache.commons.io.output.FileWriterWithEncoding;
+import org.apache.logging.log4j.LogManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+public class SpellMetricsCommand {
+    public static final Path PATH_METRICS_CSV = Paths.get("ars_nouveau", "spell_metrics.csv");
+    public static final Path PATH_METRICS_JSON = Paths.get("ars_nouveau", "spell_metrics.json");
+
+    private static final int SHOW_LIMIT = 8;
+
+    public static void register(CommandDispatcher<CommandSource> dispatcher) {
+        dispatcher.register(Commands.literal("ars-nouveau")
+                .requires(sender -> sender.hasPermission(2)) // Op required
+                .then(Commands.literal("metrics")
+                .then(Commands.literal("start").executes(SpellMetricsCommand::start))
+                .then(Commands.literal("stop").executes(SpellMetricsCommand::stop))
+                .then(Commands.literal("reset").executes(SpellMetricsCommand::reset))
+                .then(Commands.literal("show").executes(SpellMetricsCommand::show))
+                .then(Commands.literal("dump")
+                .then(Commands.literal("csv").executes(SpellMetricsCommand::dumpCsv))
+                .then(Commands.literal("json").executes(SpellMetricsCommand::dumpJson))))
+        );
+    }
+
+    public static int start(CommandContext<CommandSource> context) {
+        SpellMetrics.setEnabled(true);
+        context.getSource().sendSuccess(new StringTextComponent("Spell metrics enabled"), true);
+        return 1;
+    }
+
+    public static int stop(CommandContext<CommandSource> context) {
+        SpellMetrics.setEnabled(false);
+        context.getSource().sendSuccess(new StringTextComponent("Spell metrics disabled"), true);
+        return 1;
+    }
+
+    public static int reset(CommandContext<CommandSource> context) {
+        SpellMetrics.reset();
+        context.getSource().sendSuccess(new StringTextComponent("Spell metrics reset"), true);
+        return 1;
+    }
+
+    public static int show(CommandContext<CommandSource> context) {
+        CommandSource source = context.getSource();
+        long seconds = (System.currentTimeMillis() - SpellMetrics.getStartedAt()) / 1000;
+        source.sendSuccess(new StringTextComponent("Spell metrics (" + (SpellMetrics.isEnabled() ? "recording" : "stopped") + ", " + seconds + "s)"), false);
+        showSection(source, "Glyphs", SpellMetrics.getGlyphs());
+        showSection(source, "Cast methods", SpellMetrics.getCastMethods());
+        showSection(source, "Caster types", SpellMetrics.getCasterTypes());
+        return 1;
+    }
+
+    private static void showSection(CommandSource source, String title, List<SpellMetrics.Entry> entries){
+        source.sendSuccess(new StringTextComponent(title + ":"), false);
+        for(int i = 0; i < entries.size() && i < SHOW_LIMIT; i++){
+            SpellMetrics.Entry e = entries.get(i);
+            source.sendSuccess(new StringTextComponent(String.format(" %s: %d resolves, %.1fms total, %.1fus avg, %.1fus max, %d blocks, %d entities",
+                    e.name, e.count, e.totalNanos / 1_000_000.0, e.getAverageMicros(), e.maxNanos / 1000.0, e.blocks, e.entities)), false);
+        }
+    }
+
+    /**
+     * Creates a CSV file at {@link SpellMetricsCommand#PATH_METRICS_CSV} with one row per glyph, cast method and caster type
+     */
+    public static int dumpCsv(CommandContext<CommandSource> context) {
+        File file = PATH_METRICS_CSV.toFile();
+        try {
+            Files.createDirectories(PATH_METRICS_CSV.getParent());
+            PrintWriter w = new PrintWriter(new FileWriterWithEncoding(file, "UTF-8", false));
+
+            // Header Line
+            w.println("category, name, count, total_us, avg_us, max_us, blocks, entities, " + String.join(", ", SpellMetrics.BUCKET_NAMES));
+
+            // Rows
+            writeCsvRows(w, "glyph", SpellMetrics.getGlyphs());
+            writeCsvRows(w, "cast_method", SpellMetrics.getCastMethods());
+            writeCsvRows(w, "caster_type", SpellMetrics.getCasterTypes());
+            w.close();
+        } catch (IOException ex) {
+            return dumpFailed(context, ex);
+        }
+
+        context.getSource().sendSuccess(new StringTextComponent("Dumped spell metrics to " + file), true);
+        return 1;
+    }
+
+    private static void writeCsvRows(PrintWriter w, String category, List<SpellMetrics.Entry> entries){
+        for(SpellMetrics.Entry e : entries){
+            w.print(category + ", " + e.name + ", " + e.count + ", " + e.totalNanos / 1000 + ", "
+                    + String.format("%.2f", e.getAverageMicros()) + ", " + e.maxNanos / 1000 + ", " + e.blocks + ", " + e.entities);
+            for(long bucket : e.histogram)
+                w.print(", " + bucket);
+            w.println();
+        }
+    }
+
+    /**
+     * Creates a JSON file at {@link SpellMetricsCommand#PATH_METRICS_JSON} with the same data as the CSV dump
+     */
+    public static int dumpJson(CommandContext<CommandSource> context) {
+        File file = PATH_METRICS_JSON.toFile();
+        JsonObject root = new JsonObject();
+        root.addProperty("started_at", SpellMetrics.getStartedAt());
+        root.addProperty("recording", SpellMetrics.isEnabled());
+        root.add("glyphs", toJson(SpellMetrics.getGlyphs()));
+        root.add("cast_methods", toJson(SpellMetrics.getCastMethods()));
+        root.add("caster_types", toJson(SpellMetrics.getCasterTypes()));
+        try {
+            Files.createDirectories(PATH_METRICS_JSON.getParent());
+            PrintWriter w = new PrintWriter(new FileWriterWithEncoding(file, "UTF-8", false));
+            w.print(new GsonBuilder().setPrettyPrinting().create().toJson(root));
+            w.close();
+        } catch (IOException ex) {
+            return dumpFailed(context, ex);
+        }
+
+        context.getSource().sendSuccess(new StringTextComponent("Dumped spell metrics to " + file), true);
+        return 1;
+    }
+
+    private static JsonArray toJson(List<SpellMetrics.Entry> entries){
+        JsonArray array = new JsonArray();
+        for(SpellMetrics.Entry e : entries){
+            JsonObject obj = new JsonObject();
+            obj.addProperty("name", e.name);
+            obj.addProperty("count", e.count);
+            obj.addProperty("total_us", e.totalNanos / 1000);
+            obj.addProperty("avg_us", e.getAverageMicros());
+            obj.addProperty("max_us", e.maxNanos / 1000);
+            obj.addProperty("blocks", e.blocks);
+            obj.addProperty("entities", e.entities);
+            JsonObject histogram = new JsonObject();
+            for(int i = 0; i < e.histogram.length; i++)
+                histogram.addProperty(SpellMetrics.BUCKET_NAMES[i], e.histogram[i]);
+            obj.add("histogram", histogram);
+            array.add(obj);
+        }
+        return array;
+    }
+
+    private static int dumpFailed(CommandContext<CommandSource> context, IOException ex){
+        LogManager.getLogger(ArsNouveau.MODID).error("Unable to dump spell metrics", ex);
+        context.getSource().sendFailure(new StringTextComponent("Error when trying to dump spell metrics.  Check the logs."));
+        return 0;
+    }
+}
@@ -4,6 +4,7 @@ import com.hollingsworth.arsnouveau.api.client.ITooltipProvider;
 import com.hollingsworth.arsnouveau.api.entity.IDispellable;
 import com.hollingsworth.arsnouveau.api.item.IWandable;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.api.util.NBTUtil;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.compat.PatchouliHandler;
@@ -226,7 +227,7 @@ public class EntityCarbuncle extends CreatureEntity implements IAnimatable, IDis
         if (this.getHeldStack().isEmpty() && !level.isClientSide) {
 
                 // Cannot use a single expanded bounding box because we don't want this to overlap with an adjacentt inventory that also has a frame.
-            for (ItemEntity itementity : this.level.getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(1))) {
+            for (ItemEntity itementity : EntityQueryCache.getEntitiesOfClass(this.level, ItemEntity.class, this.getBoundingBox().inflate(1))) {
                 if (itementity.isAlive() && !itementity.getItem().isEmpty() && !itementity.hasPickUpDelay()) {
                     if (!isTamed() && itementity.getItem().getItem() != Items.GOLD_NUGGET)
                         return;
@@ -304,7 +305,7 @@ public class EntityCarbuncle extends CreatureEntity implements IAnimatable, IDis
             this.level.playSound(null, this.getX(), this.getY(), this.getZ(), SoundEvents.ITEM_PICKUP, this.getSoundSource(), 1.0F, 1.0F);
             if(!isTamed())
                 return;
-            for(ItemEntity i : level.getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(3))){
+            for(ItemEntity i : EntityQueryCache.getEntitiesOfClass(level, ItemEntity.class, this.getBoundingBox().inflate(3))){
                 if(itemEntity.getItem().getCount() >= itemEntity.getItem().getMaxStackSize())
                     break;
                 int maxTake = getHeldStack().getMaxStackSize() - getHeldStack().getCount();
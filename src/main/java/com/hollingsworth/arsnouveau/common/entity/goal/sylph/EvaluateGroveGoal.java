@@ -92,7 +92,9 @@ public class EvaluateGroveGoal extends Goal {
         }
         sylph.getEntityData().set(EntitySylph.MOOD_SCORE, score);
         sylph.timeUntilEvaluation = ticksToNextEval;
-        sylph.genTable = dropMap;
+        // Keep the old map when the grove did not change, so the sylph's drop table stays valid
+        if(!dropMap.equals(sylph.genTable))
+            sylph.genTable = dropMap;
         sylph.scoreMap = defaultMap;
         sylph.diversityScore = defaultMap.keySet().size();
     }
@@ -15,8 +15,9 @@ import net.minecraft.world.server.ServerWorld;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.hollingsworth.arsnouveau.common.entity.goal.sylph.EvaluateGroveGoal.getScore;
@@ -24,9 +25,25 @@ import static com.hollingsworth.arsnouveau.common.entity.goal.sylph.EvaluateGrov
 import net.minecraft.entity.ai.goal.Goal.Flag;
 
 public class GenerateDropsGoal extends Goal {
+    /**
+     * Times the drops of each block in the grove are rolled when building the drop table.
+     */
+    public static final int ROLLS_PER_STATE = 16;
+    /**
+     * Ticks after which the drop table is rolled again, even if the grove did not change.
+     */
+    public static final int TABLE_REFRESH_TICKS = 12000;
+
     EntitySylph sylph;
     public List<BlockPos> locList;
     int timeGathering;
+    /**
+     * Valid reward rolls sampled from the grove, weighted by how common their block is.
+     */
+    DropDistribution<List<ItemStack>> dropTable;
+    Map<BlockState, Integer> dropTableSource;
+    List<ItemStack> dropTableIgnored;
+    long dropTableBuiltAt;
     public GenerateDropsGoal(EntitySylph sylph){
         this.sylph = sylph;
         this.setFlags(EnumSet.of(Flag.MOVE));
@@ -74,36 +91,47 @@ public class GenerateDropsGoal extends Goal {
 
         if(timeGathering == 0 && sylph.removeManaForDrops()){
             sylph.timeUntilGather = getTimerByMood() * 20;
-            DropDistribution<BlockState> blockDropDistribution = new DropDistribution<>(sylph.genTable);
+            DropDistribution<List<ItemStack>> table = getDropTable();
             int numDrops = getDropsByDiversity() + 3;
             for(int i = 0; i < numDrops; i++){
-                BlockState block = blockDropDistribution.nextDrop();
-                if(block == null)
+                List<ItemStack> drops = table.nextDrop();
+                if(drops == null)
                     return;
 
-                for(ItemStack s : getDrops(blockDropDistribution)){
-                    sylph.onPickup(s);
+                for(ItemStack s : drops){
+                    sylph.onPickup(s.copy());
                 }
             }
 
         }
     }
 
-    public List<ItemStack> getDrops(DropDistribution<BlockState> blockDropDistribution){
+    /**
+     * Returns the drop table of the current grove, rolling it again if the grove, the ignored items or too much time changed.
+     */
+    public DropDistribution<List<ItemStack>> getDropTable(){
         World world = sylph.getCommandSenderWorld();
-        Supplier<List<ItemStack>> getDrops = () -> Block.getDrops(blockDropDistribution.nextDrop(), (ServerWorld) world, sylph.blockPosition(), null);
-
-        List<ItemStack> successfulDrops;
-        boolean bonusReroll = false;
-        for(int numRerolls = 0; numRerolls < (bonusReroll ? 16 : 8); numRerolls++) {
-            List<ItemStack> drops = getDrops.get();
-            if (drops.isEmpty()) continue;
-            successfulDrops = drops.stream().filter(s -> sylph.isValidReward(s)).collect(Collectors.toCollection(ArrayList::new));
-            bonusReroll = true;
-            if (successfulDrops.isEmpty()) continue;
-            return successfulDrops;
+        if(dropTable != null && dropTableSource == sylph.genTable && dropTableIgnored == sylph.ignoreItems
+                && world.getGameTime() - dropTableBuiltAt < TABLE_REFRESH_TICKS)
+            return dropTable;
+
+        Map<List<ItemStack>, Integer> outcomes = new IdentityHashMap<>();
+        for(Map.Entry<BlockState, Integer> entry : sylph.genTable.entrySet()){
+            if(entry.getValue() <= 0)
+                continue;
+            for(int i = 0; i < ROLLS_PER_STATE; i++){
+                List<ItemStack> drops = Block.getDrops(entry.getKey(), (ServerWorld) world, sylph.blockPosition(), null).stream()
+                        .filter(s -> !s.isEmpty() && sylph.isValidReward(s)).collect(Collectors.toCollection(ArrayList::new));
+                // Every roll stands for the same share of its block, so rejected rolls leave the valid ones in proportion
+                if(!drops.isEmpty())
+                    outcomes.put(drops, entry.getValue());
+            }
         }
-        return new ArrayList<>();
+        dropTable = new DropDistribution<>(outcomes);
+        dropTableSource = sylph.genTable;
+        dropTableIgnored = sylph.ignoreItems;
+        dropTableBuiltAt = world.getGameTime();
+        return dropTable;
     }
 
     @Override
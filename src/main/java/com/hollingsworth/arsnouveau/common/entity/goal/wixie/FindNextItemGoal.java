@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.entity.goal.wixie;
 
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.api.util.InventoryCountCache;
 import com.hollingsworth.arsnouveau.common.block.tile.WixieCauldronTile;
 import com.hollingsworth.arsnouveau.common.entity.EntityWixie;
 import com.hollingsworth.arsnouveau.common.entity.goal.ExtendedRangeGoal;
@@ -102,6 +103,7 @@ public class FindNextItemGoal extends ExtendedRangeGoal {
                         stackToGive.setCount(1);
                         tile.giveItem(stackToGive);
                         i.getItem(j).shrink(1);
+                        InventoryCountCache.invalidate(world, b);
                         Networking.sendToNearby(world, wixie, new PacketAnimEntity(wixie.getId(), EntityWixie.Animations.SUMMON_ITEM.ordinal()));
                         wixie.inventoryBackoff = 60;
                         break;
@@ -1,9 +1,10 @@
 package com.hollingsworth.arsnouveau.common.entity.goal.wixie;
 
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
+import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
+import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.tile.PotionJarTile;
 import com.hollingsworth.arsnouveau.common.block.tile.WixieCauldronTile;
-import com.hollingsworth.arsnouveau.common.entity.EntityFollowProjectile;
 import com.hollingsworth.arsnouveau.common.entity.EntityWixie;
 import com.hollingsworth.arsnouveau.common.entity.goal.ExtendedRangeGoal;
 import com.hollingsworth.arsnouveau.common.network.Networking;
@@ -73,9 +74,7 @@ public class FindPotionGoal extends ExtendedRangeGoal {
             int g = (color >> 8) & 0xFF;
             int b = (color >> 0) & 0xFF;
             int a = (color >> 24) & 0xFF;
-            EntityFollowProjectile aoeProjectile = new EntityFollowProjectile(world, movePos, wixie.cauldronPos, r,g,b);
-
-            world.addFreshEntity(aoeProjectile);
+            ParticleUtil.spawnFollowProjectile(world, movePos, wixie.cauldronPos, new ParticleColor.IntWrapper(r, g, b));
             found= true;
 
         }
@@ -43,6 +43,14 @@ public class ChunkCache implements IWorldReader
      * Reference to the World object.
      */
     protected World     world;
+    /**
+     * Shared snapshots of the world, read instead of the live chunks so jobs never race the main thread.
+     */
+    protected SectionSnapshotCache snapshotCache;
+    /**
+     * Sections already looked up by this job, indexed like chunkArray plus the section index.
+     */
+    protected SectionSnapshot[][][] sections;
 
     public ChunkCache(World worldIn, BlockPos posFromIn, BlockPos posToIn, int subIn)
     {
@@ -52,6 +60,8 @@ public class ChunkCache implements IWorldReader
         int i = posToIn.getX() + subIn >> 4;
         int j = posToIn.getZ() + subIn >> 4;
         this.chunkArray = new Chunk[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.sections = new SectionSnapshot[i - this.chunkX + 1][j - this.chunkZ + 1][16];
+        this.snapshotCache = SectionSnapshotCache.get(worldIn);
         this.empty = true;
 
         for (int k = this.chunkX; k <= i; ++k)
@@ -111,20 +121,10 @@ public class ChunkCache implements IWorldReader
     @Override
     public BlockState getBlockState(BlockPos pos)
     {
-        if (pos.getY() >= 0 && pos.getY() < 256)
+        final SectionSnapshot section = getSection(pos);
+        if (section != null)
         {
-            int i = (pos.getX() >> 4) - this.chunkX;
-            int j = (pos.getZ() >> 4) - this.chunkZ;
-
-            if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
-            {
-                Chunk chunk = this.chunkArray[i][j];
-
-                if (chunk != null)
-                {
-                    return chunk.getBlockState(pos);
-                }
-            }
+            return section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
         }
 
         return Blocks.AIR.defaultBlockState();
@@ -133,23 +133,67 @@ public class ChunkCache implements IWorldReader
     @Override
     public FluidState getFluidState(final BlockPos pos)
     {
-        if (pos.getY() >= 0 && pos.getY() < 256)
+        final SectionSnapshot section = getSection(pos);
+        if (section != null)
         {
-            int i = (pos.getX() >> 4) - this.chunkX;
-            int j = (pos.getZ() >> 4) - this.chunkZ;
+            return section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15).getFluidState();
+        }
 
-            if (i >= 0 && i < this.chunkArray.length && j >= 0 && j < this.chunkArray[i].length)
-            {
-                Chunk chunk = this.chunkArray[i][j];
+        return Fluids.EMPTY.defaultFluidState();
+    }
 
-                if (chunk != null)
-                {
-                    return chunk.getFluidState(pos);
-                }
-            }
+    /**
+     * Checks the air bitmap of the section, without looking up the state.
+     *
+     * @param pos the position to check.
+     * @return true if the block is air or outside the cache.
+     */
+    public boolean isAir(final BlockPos pos)
+    {
+        final SectionSnapshot section = getSection(pos);
+        return section == null || section.isAir(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    /**
+     * Gets the change stamp of the section this job saw at a position, see {@link SectionSnapshotCache#getStamp(long)}.
+     *
+     * @param pos the position.
+     * @return the stamp, or -1 if the position is outside the cache or its chunk is not loaded.
+     */
+    public long getSectionStamp(final BlockPos pos)
+    {
+        final SectionSnapshot section = getSection(pos);
+        return section == null ? -1 : section.getStamp();
+    }
+
+    /**
+     * Gets the snapshot of the section containing a position, fetching it from the shared cache on first use.
+     *
+     * @param pos the position.
+     * @return the snapshot, or null if the position is outside the cache or its chunk is not loaded.
+     */
+    @Nullable
+    private SectionSnapshot getSection(final BlockPos pos)
+    {
+        if (pos.getY() < 0 || pos.getY() >= 256)
+        {
+            return null;
+        }
+        final int i = (pos.getX() >> 4) - this.chunkX;
+        final int j = (pos.getZ() >> 4) - this.chunkZ;
+        if (!withinBounds(i, j))
+        {
+            return null;
         }
 
-        return Fluids.EMPTY.defaultFluidState();
+        final int sectionY = pos.getY() >> 4;
+        SectionSnapshot section = this.sections[i][j][sectionY];
+        if (section == null)
+        {
+            section = snapshotCache.getSection(this.chunkArray[i][j], sectionY);
+            this.sections[i][j][sectionY] = section;
+        }
+        return section;
     }
 
     @Override
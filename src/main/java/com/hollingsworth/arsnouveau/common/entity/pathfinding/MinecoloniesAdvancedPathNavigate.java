@@ -103,6 +103,44 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       final AbstractPathJob job,
       final BlockPos dest,
       final double speedFactor)
+    {
+        if (!prepareNewPath(dest, speedFactor))
+        {
+            return null;
+        }
+
+        job.setPathingOptions(getPathingOptions());
+        pathResult = job.getResult();
+        pathResult.startJob(Pathfinding.getExecutor());
+        return pathResult;
+    }
+
+    /**
+     * Follows a path from the route cache instead of starting a job.
+     *
+     * @param path        the cached path.
+     * @param dest        the destination.
+     * @param speedFactor the speed to walk at.
+     * @return the already completed result.
+     */
+    private PathResult setCachedPath(final Path path, final BlockPos dest, final double speedFactor)
+    {
+        if (!prepareNewPath(dest, speedFactor))
+        {
+            return null;
+        }
+
+        pathResult = new PathResult<>();
+        pathResult.setCachedPath(path, true);
+        return pathResult;
+    }
+
+    /**
+     * Stops the current path and sets up the destination and speed of a new one.
+     *
+     * @return false if the speed is not allowed.
+     */
+    private boolean prepareNewPath(final BlockPos dest, final double speedFactor)
     {
         stop();
 
@@ -118,13 +156,9 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         if (speedFactor > MAX_SPEED_ALLOWED || speedFactor < MIN_SPEED_ALLOWED)
         {
             Log.getLogger().error("Tried to set a bad speed:" + speedFactor + " for entity:" + ourEntity, new Exception());
-            return null;
+            return false;
         }
-
-        job.setPathingOptions(getPathingOptions());
-        pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
-        return pathResult;
+        return true;
     }
 
     @Override
@@ -241,7 +275,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         final int newY = (int) y;
         final int newZ = MathHelper.floor(z);
 
-        if (pathResult != null && pathResult.getJob() instanceof PathJobMoveToLocation &&
+        if (pathResult != null && (pathResult.getJob() instanceof PathJobMoveToLocation || pathResult.isFromCache()) &&
               (
                 pathResult.isComputing()
                   || (destination != null && destination.equals(new BlockPos(newX, newY, newZ)))
@@ -255,6 +289,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         desiredPos = new BlockPos(newX, newY, newZ);
 
+        final Path cachedPath = PathRouteCache.get(level).find(start, desiredPos, getPathingOptions());
+        if (cachedPath != null)
+        {
+            return setCachedPath(cachedPath, desiredPos, speedFactor);
+        }
+
         return setPathJob(
           new PathJobMoveToLocation(ourEntity.level,
             start,
@@ -448,6 +488,10 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     private boolean processCompletedCalculationResult()
     {
+        if (pathResult.getJob() instanceof PathJobMoveToLocation && pathResult.isPathReachingDestination())
+        {
+            PathRouteCache.get(level).put((PathJobMoveToLocation) pathResult.getJob(), pathResult.getPath(), getPathingOptions());
+        }
         moveTo(pathResult.getPath(), getSpeedFactor());
         pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
         return false;
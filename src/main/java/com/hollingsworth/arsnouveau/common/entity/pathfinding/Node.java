@@ -17,12 +17,17 @@ public class Node implements Comparable<Node>
     /**
      * The position of the node.
      */
-    public final BlockPos pos;
+    public BlockPos pos;
 
     /**
      * The hash of the node.
      */
-    private final int hash;
+    private int hash;
+
+    /**
+     * Index of this node in the open {@link NodeHeap}, or -1 if it is not queued.
+     */
+    int heapIndex = -1;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -110,6 +115,21 @@ public class Node implements Comparable<Node>
      * @param score     node total score.
      */
     public Node(final Node parent, final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        init(parent, pos, cost, heuristic, score);
+    }
+
+    /**
+     * Resets a pooled node for reuse, as if it was newly created.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return this node.
+     */
+    public Node init(final Node parent, final BlockPos pos, final double cost, final double heuristic, final double score)
     {
         this.parent = parent;
         this.pos = pos;
@@ -118,6 +138,16 @@ public class Node implements Comparable<Node>
         this.heuristic = heuristic;
         this.score = score;
         this.hash = pos.getX() ^ ((pos.getZ() << HASH_A) | (pos.getZ() >> HASH_B)) ^ (pos.getY() << HASH_C);
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.isOnRails = false;
+        this.isCornerNode = false;
+        this.isReachedByWorker = false;
+        this.heapIndex = -1;
+        return this;
     }
 
     @Override
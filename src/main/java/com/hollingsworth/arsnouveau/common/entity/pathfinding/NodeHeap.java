@@ -0,0 +1,164 @@
+package com.hollingsworth.arsnouveau.common.entity.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of open nodes, ordered by {@link Node#compareTo(Node)}.
+ * Each node stores its own index in the heap, so a node whose score improved can be moved up in place
+ * instead of being searched for, removed and offered again.
+ */
+public class NodeHeap
+{
+    /**
+     * Heap array, only the first size entries are used.
+     */
+    private Node[] heap;
+
+    /**
+     * Number of nodes in the heap.
+     */
+    private int size;
+
+    public NodeHeap(final int initialCapacity)
+    {
+        heap = new Node[Math.max(1, initialCapacity)];
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Checks if a node is waiting in this heap.
+     *
+     * @param node the node to check.
+     * @return true if so.
+     */
+    public boolean contains(final Node node)
+    {
+        return node.heapIndex >= 0 && node.heapIndex < size && heap[node.heapIndex] == node;
+    }
+
+    /**
+     * Adds a node that is not yet in the heap.
+     *
+     * @param node the node to add.
+     */
+    public void offer(final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = node;
+        node.heapIndex = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Removes and returns the node with the lowest score.
+     *
+     * @return the node, or null if the heap is empty.
+     */
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+        final Node first = heap[0];
+        final Node last = heap[--size];
+        heap[size] = null;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.heapIndex = 0;
+            siftDown(0);
+        }
+        first.heapIndex = -1;
+        return first;
+    }
+
+    /**
+     * Restores the heap order after the score of a node in the heap was lowered.
+     *
+     * @param node the node that improved.
+     */
+    public void decreaseKey(final Node node)
+    {
+        siftUp(node.heapIndex);
+    }
+
+    /**
+     * Empties the heap, keeping its capacity unless it grew past maxCapacity.
+     *
+     * @param maxCapacity largest capacity to keep for reuse.
+     */
+    public void clear(final int maxCapacity)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].heapIndex = -1;
+        }
+        if (heap.length > maxCapacity)
+        {
+            heap = new Node[maxCapacity];
+        }
+        else
+        {
+            Arrays.fill(heap, 0, size, null);
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index)
+    {
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[index] = parent;
+            parent.heapIndex = index;
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+
+    private void siftDown(int index)
+    {
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+            heap[index] = child;
+            child.heapIndex = index;
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.heapIndex = index;
+    }
+}
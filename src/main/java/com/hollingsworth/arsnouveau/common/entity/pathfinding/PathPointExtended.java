@@ -131,6 +131,29 @@ public class PathPointExtended extends PathPoint
         return railsExit;
     }
 
+    /**
+     * Creates a copy of this point that shares no state with it.
+     *
+     * @return the new point.
+     */
+    public PathPointExtended copy()
+    {
+        final PathPointExtended copy = new PathPointExtended(new BlockPos(x, y, z));
+        copy.onLadder = onLadder;
+        copy.ladderFacing = ladderFacing;
+        copy.onRails = onRails;
+        copy.railsEntry = railsEntry;
+        copy.railsExit = railsExit;
+        copy.g = g;
+        copy.h = h;
+        copy.f = f;
+        copy.closed = closed;
+        copy.walkedDistance = walkedDistance;
+        copy.costMalus = costMalus;
+        copy.type = type;
+        return copy;
+    }
+
     @Override
     public boolean equals(final Object o)
     {
@@ -4,6 +4,7 @@ import com.hollingsworth.arsnouveau.common.util.Log;
 import net.minecraft.pathfinding.Path;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -43,6 +44,11 @@ public class PathResult<T extends Callable<Path>>
      */
     private boolean pathingDoneAndProcessed = false;
 
+    /**
+     * Whether the path came from the {@link PathRouteCache} instead of a job
+     */
+    private boolean fromCache = false;
+
     /**
      * Get Status of the Path.
      *
@@ -169,6 +175,29 @@ public class PathResult<T extends Callable<Path>>
         }
     }
 
+    /**
+     * Completes this result with a cached path, without running a job.
+     *
+     * @param cachedPath         the path to follow.
+     * @param reachesDestination whether the path reaches its destination.
+     */
+    public void setCachedPath(final Path cachedPath, final boolean reachesDestination)
+    {
+        path = cachedPath;
+        pathReachesDestination = reachesDestination;
+        pathingDoneAndProcessed = true;
+        fromCache = true;
+        setStatus(PathFindingStatus.CALCULATION_COMPLETE);
+    }
+
+    /**
+     * @return true if the path came from the route cache.
+     */
+    public boolean isFromCache()
+    {
+        return fromCache;
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -189,6 +218,12 @@ public class PathResult<T extends Callable<Path>>
         {
             Log.getLogger().catching(e);
         }
+        catch (CancellationException e)
+        {
+            // Dropped or found stale by the pathfinding executor before it ran.
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CANCELLED);
+        }
     }
 
     /**
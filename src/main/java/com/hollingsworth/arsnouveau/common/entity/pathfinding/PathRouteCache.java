@@ -0,0 +1,275 @@
+package com.hollingsworth.arsnouveau.common.entity.pathfinding;
+
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-world cache of routes that reached their destination, for creatures that walk the same trips over and over.
+ * A route is reused when the goal and pathing options match and the start is within one block, as long as no block
+ * in a section it passes through changed since it was computed, see {@link SectionSnapshotCache#getStamp(long)}.
+ * Only used from the server thread.
+ */
+public class PathRouteCache
+{
+    /**
+     * Max number of goals to keep routes for per world.
+     */
+    private static final int MAX_GOALS = 256;
+
+    /**
+     * Max number of routes, from different starts, to keep per goal.
+     */
+    private static final int MAX_ROUTES_PER_GOAL = 4;
+
+    /**
+     * Max squared distance between the cached and the requested start.
+     */
+    private static final double START_TOLERANCE_SQ = 3.0;
+
+    /**
+     * Routes older than this, in ticks, are computed again.
+     */
+    private static final long MAX_AGE = 20 * 60;
+
+    private static final Map<RegistryKey<World>, PathRouteCache> caches = new HashMap<>();
+
+    private final World world;
+
+    private final Map<RouteKey, List<Route>> routes = new LinkedHashMap<RouteKey, List<Route>>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<RouteKey, List<Route>> eldest)
+        {
+            return size() > MAX_GOALS;
+        }
+    };
+
+    private PathRouteCache(final World world)
+    {
+        this.world = world;
+    }
+
+    public static PathRouteCache get(final World world)
+    {
+        final PathRouteCache cache = caches.get(world.dimension());
+        if (cache == null || cache.world != world)
+        {
+            final PathRouteCache created = new PathRouteCache(world);
+            caches.put(world.dimension(), created);
+            return created;
+        }
+        return cache;
+    }
+
+    public static void clear(final World world)
+    {
+        caches.remove(world.dimension());
+    }
+
+    /**
+     * Looks for a valid cached route.
+     *
+     * @param start   the start of the requested path.
+     * @param goal    the destination of the requested path.
+     * @param options the pathing options of the entity.
+     * @return a new path over the cached route, or null if there is none.
+     */
+    @Nullable
+    public Path find(final BlockPos start, final BlockPos goal, final PathingOptions options)
+    {
+        final List<Route> list = routes.get(new RouteKey(goal.asLong(), options));
+        if (list == null)
+        {
+            return null;
+        }
+
+        final Iterator<Route> iterator = list.iterator();
+        while (iterator.hasNext())
+        {
+            final Route route = iterator.next();
+            if (!route.isValid())
+            {
+                iterator.remove();
+                continue;
+            }
+            if (route.start.distSqr(start) <= START_TOLERANCE_SQ)
+            {
+                return new Path(copyPoints(route.points), route.target, true);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the path of a finished job, if it reached its destination.
+     *
+     * @param job     the finished job.
+     * @param path    the path it computed.
+     * @param options the pathing options the job ran with.
+     */
+    public void put(final PathJobMoveToLocation job, final Path path, final PathingOptions options)
+    {
+        if (path == null || path.getNodeCount() == 0 || !path.canReach() || !(job.getWorld() instanceof ChunkCache))
+        {
+            return;
+        }
+
+        final ChunkCache cache = (ChunkCache) job.getWorld();
+        final List<PathPoint> points = new ArrayList<>(path.getNodeCount());
+        final LongOpenHashSet seen = new LongOpenHashSet();
+        final LongArrayList sectionKeys = new LongArrayList();
+        final LongArrayList stamps = new LongArrayList();
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int i = 0; i < path.getNodeCount(); i++)
+        {
+            final PathPoint point = path.getNode(i);
+            points.add(copyPoint(point));
+            // Also track the block stood on and the head space, which may lie in the sections below and above.
+            for (int dy = -1; dy <= 1; dy++)
+            {
+                final int y = point.y + dy;
+                if (y < 0 || y >= 256)
+                {
+                    continue;
+                }
+                final long key = SectionPos.asLong(point.x >> 4, y >> 4, point.z >> 4);
+                if (!seen.add(key))
+                {
+                    continue;
+                }
+                final long stamp = cache.getSectionStamp(pos.set(point.x, y, point.z));
+                if (stamp == -1)
+                {
+                    return;
+                }
+                sectionKeys.add(key);
+                stamps.add(stamp);
+            }
+        }
+
+        // The key keeps its own copy, as the entity may change its options later.
+        final List<Route> list = routes.computeIfAbsent(new RouteKey(job.destination.asLong(), options.copy()), k -> new ArrayList<>(1));
+        list.removeIf(route -> route.start.equals(job.getStart()));
+        if (list.size() >= MAX_ROUTES_PER_GOAL)
+        {
+            list.remove(0);
+        }
+        list.add(new Route(job.getStart(), points, path.getTarget(), sectionKeys.toLongArray(), stamps.toLongArray(), world.getGameTime()));
+    }
+
+    /**
+     * Copies the points of a route, so paths handed out never share points with the cache or with each other.
+     *
+     * @param points the points to copy.
+     * @return a new list of new points.
+     */
+    private static List<PathPoint> copyPoints(final List<PathPoint> points)
+    {
+        final List<PathPoint> copy = new ArrayList<>(points.size());
+        for (final PathPoint point : points)
+        {
+            copy.add(copyPoint(point));
+        }
+        return copy;
+    }
+
+    private static PathPoint copyPoint(final PathPoint point)
+    {
+        if (point instanceof PathPointExtended)
+        {
+            return ((PathPointExtended) point).copy();
+        }
+        final PathPoint copy = point.cloneAndMove(point.x, point.y, point.z);
+        copy.cameFrom = null;
+        return copy;
+    }
+
+    private static class RouteKey
+    {
+        private final long           goal;
+        private final PathingOptions options;
+
+        RouteKey(final long goal, final PathingOptions options)
+        {
+            this.goal = goal;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof RouteKey))
+            {
+                return false;
+            }
+            final RouteKey that = (RouteKey) o;
+            return goal == that.goal && options.equals(that.options);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(goal, options.hashCode());
+        }
+    }
+
+    private class Route
+    {
+        private final BlockPos        start;
+        private final List<PathPoint> points;
+        private final BlockPos        target;
+        private final long[]          sectionKeys;
+        private final long[]          stamps;
+        private final long            createdAt;
+
+        Route(final BlockPos start, final List<PathPoint> points, final BlockPos target, final long[] sectionKeys, final long[] stamps, final long createdAt)
+        {
+            this.start = start;
+            this.points = points;
+            this.target = target;
+            this.sectionKeys = sectionKeys;
+            this.stamps = stamps;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * @return true if the route is recent and no section along it changed since it was computed.
+         */
+        boolean isValid()
+        {
+            if (world.getGameTime() - createdAt > MAX_AGE)
+            {
+                return false;
+            }
+            final SectionSnapshotCache cache = SectionSnapshotCache.get(world);
+            for (int i = 0; i < sectionKeys.length; i++)
+            {
+                if (cache.getStamp(sectionKeys[i]) != stamps[i])
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
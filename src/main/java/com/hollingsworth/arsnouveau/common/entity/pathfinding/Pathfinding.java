@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.entity.pathfinding;
 
 import com.hollingsworth.arsnouveau.common.util.Log;
 import com.hollingsworth.arsnouveau.common.entity.pathfinding.pathjobs.AbstractPathJob;
+import com.hollingsworth.arsnouveau.setup.Config;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
@@ -13,6 +14,8 @@ import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.renderer.entity.EntityRendererManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraftforge.api.distmarker.Dist;
@@ -22,6 +25,7 @@ import org.lwjgl.opengl.GL11;
 import java.util.ConcurrentModificationException;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.hollingsworth.arsnouveau.common.entity.pathfinding.PathingConstants.debugNodeMonitor;
 
@@ -30,8 +34,24 @@ import static com.hollingsworth.arsnouveau.common.entity.pathfinding.PathingCons
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static       ThreadPoolExecutor      executor;
+    /**
+     * Squared horizontal speed above which an entity counts as moving when ranking its path job.
+     */
+    private static final double MOVING_SPEED_SQR = 0.0025;
+
+    private static final PriorityBlockingQueue<Runnable> jobQueue = new PriorityBlockingQueue<>(64, Pathfinding::compareJobs);
+    private static       PathJobExecutor                executor;
+
+    /**
+     * Job counters, read by /ars-pathing stats.
+     */
+    private static final AtomicLong jobsCompleted = new AtomicLong();
+    private static final AtomicLong jobsStale     = new AtomicLong();
+    private static final AtomicLong jobsDropped   = new AtomicLong();
+    private static final AtomicLong totalWaitNanos    = new AtomicLong();
+    private static final AtomicLong totalComputeNanos = new AtomicLong();
+    private static final AtomicLong maxComputeNanos   = new AtomicLong();
+    private static final AtomicLong jobSequence       = new AtomicLong();
 
     /**
      * Minecolonies specific thread factory.
@@ -55,15 +75,29 @@ public final class Pathfinding
     }
 
     /**
-     * Creates a new thread pool for pathfinding jobs
+     * Creates a new thread pool for pathfinding jobs, or resizes it if the configured worker count changed.
      *
      * @return the threadpool executor.
      */
     public static ThreadPoolExecutor getExecutor()
     {
+        final int threads = Config.PATHFINDING_THREADS.get();
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobExecutor(threads);
+        }
+        else if (executor.getMaximumPoolSize() != threads)
+        {
+            if (threads > executor.getMaximumPoolSize())
+            {
+                executor.setMaximumPoolSize(threads);
+                executor.setCorePoolSize(threads);
+            }
+            else
+            {
+                executor.setCorePoolSize(threads);
+                executor.setMaximumPoolSize(threads);
+            }
         }
         return executor;
     }
@@ -73,7 +107,10 @@ public final class Pathfinding
      */
     public static void shutdown()
     {
-        getExecutor().shutdownNow();
+        if (executor != null)
+        {
+            executor.shutdownNow();
+        }
         jobQueue.clear();
         executor = null;
     }
@@ -93,6 +130,177 @@ public final class Pathfinding
         job.getResult().startJob(getExecutor());
     }
 
+    /**
+     * @return the number of jobs waiting for a worker.
+     */
+    public static int getQueueDepth()
+    {
+        return jobQueue.size();
+    }
+
+    /**
+     * @return a one line summary of the pathfinding workers, queue and job timings.
+     */
+    public static String getStats()
+    {
+        final long completed = jobsCompleted.get();
+        return String.format("Pathfinding: %d workers, %d queued, %d completed, %d stale, %d dropped, avg wait %.2fms, avg compute %.2fms, max compute %.2fms",
+          executor == null ? 0 : executor.getPoolSize(),
+          getQueueDepth(),
+          completed,
+          jobsStale.get(),
+          jobsDropped.get(),
+          completed == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / completed,
+          completed == 0 ? 0 : totalComputeNanos.get() / 1_000_000.0 / completed,
+          maxComputeNanos.get() / 1_000_000.0);
+    }
+
+    public static void resetStats()
+    {
+        jobsCompleted.set(0);
+        jobsStale.set(0);
+        jobsDropped.set(0);
+        totalWaitNanos.set(0);
+        totalComputeNanos.set(0);
+        maxComputeNanos.set(0);
+    }
+
+    /**
+     * Orders jobs so entities near players and entities already moving are pathed first. Lower runs earlier.
+     * Called on the server thread when the job is queued.
+     *
+     * @param job the job to rank.
+     * @return the priority of the job.
+     */
+    public static double getPriority(final AbstractPathJob job)
+    {
+        final LivingEntity entity = job.getEntity();
+        if (entity == null)
+        {
+            return Double.MAX_VALUE;
+        }
+        final PlayerEntity player = entity.level.getNearestPlayer(entity, -1.0);
+        double priority = player == null ? Double.MAX_VALUE / 2 : player.distanceToSqr(entity);
+        if (entity.getDeltaMovement().horizontalDistanceSqr() > MOVING_SPEED_SQR)
+        {
+            priority /= 4;
+        }
+        return priority;
+    }
+
+    /**
+     * Pathfinding executor backed by a priority queue. Jobs are ranked with {@link #getPriority(AbstractPathJob)} when queued,
+     * skipped if they went stale while waiting, and the lowest ranked jobs are dropped when the queue is over its configured size.
+     */
+    private static class PathJobExecutor extends ThreadPoolExecutor
+    {
+        PathJobExecutor(final int threads)
+        {
+            super(threads, threads, 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+        {
+            if (callable instanceof AbstractPathJob)
+            {
+                return new PathJobTask<>(callable, (AbstractPathJob) callable);
+            }
+            return super.newTaskFor(callable);
+        }
+
+        @Override
+        public void execute(final Runnable command)
+        {
+            super.execute(command);
+            final int limit = Config.PATHFINDING_QUEUE_SIZE.get();
+            if (jobQueue.size() > limit)
+            {
+                // Cancelled jobs stay queued until a worker reaches them, clear those first.
+                purge();
+                while (jobQueue.size() > limit)
+                {
+                    dropLowestPriority();
+                }
+            }
+        }
+
+        private void dropLowestPriority()
+        {
+            PathJobTask<?> lowest = null;
+            for (final Runnable runnable : jobQueue)
+            {
+                if (runnable instanceof PathJobTask && (lowest == null || compareJobs(runnable, lowest) > 0))
+                {
+                    lowest = (PathJobTask<?>) runnable;
+                }
+            }
+            if (lowest == null || !jobQueue.remove(lowest))
+            {
+                return;
+            }
+            lowest.cancel(false);
+            jobsDropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Queued path job, ordered by priority and then by submission.
+     */
+    private static class PathJobTask<T> extends FutureTask<T>
+    {
+        private final AbstractPathJob job;
+        private final double          priority;
+        private final long            sequence;
+        private final long            queuedAt;
+
+        PathJobTask(final Callable<T> callable, final AbstractPathJob job)
+        {
+            super(callable);
+            this.job = job;
+            this.priority = getPriority(job);
+            this.sequence = jobSequence.getAndIncrement();
+            this.queuedAt = System.nanoTime();
+        }
+
+        @Override
+        public void run()
+        {
+            if (isDone())
+            {
+                return;
+            }
+            if (job.isStale())
+            {
+                cancel(false);
+                jobsStale.incrementAndGet();
+                return;
+            }
+            final long started = System.nanoTime();
+            super.run();
+            final long computeNanos = System.nanoTime() - started;
+            jobsCompleted.incrementAndGet();
+            totalWaitNanos.addAndGet(started - queuedAt);
+            totalComputeNanos.addAndGet(computeNanos);
+            maxComputeNanos.accumulateAndGet(computeNanos, Math::max);
+        }
+    }
+
+    /**
+     * Queue order of the executor. Path jobs are ordered by priority and then by submission, anything else runs first.
+     */
+    private static int compareJobs(final Runnable first, final Runnable second)
+    {
+        if (!(first instanceof PathJobTask) || !(second instanceof PathJobTask))
+        {
+            return Boolean.compare(first instanceof PathJobTask, second instanceof PathJobTask);
+        }
+        final PathJobTask<?> a = (PathJobTask<?>) first;
+        final PathJobTask<?> b = (PathJobTask<?>) second;
+        final int byPriority = Double.compare(a.priority, b.priority);
+        return byPriority != 0 ? byPriority : Long.compare(a.sequence, b.sequence);
+    }
+
     /**
      * Render debugging information for the pathfinding system.
      *
@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.entity.pathfinding;
 
 import net.minecraft.block.BlockState;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 /**
@@ -73,6 +74,31 @@ public class PathingOptions
     public PathingOptions()
     {}
 
+    /**
+     * Creates a copy of these options, which does not change when these do.
+     *
+     * @return the new options.
+     */
+    public PathingOptions copy()
+    {
+        final PathingOptions copy = new PathingOptions();
+        copy.jumpCost = jumpCost;
+        copy.dropCost = dropCost;
+        copy.onPathCost = onPathCost;
+        copy.onRailCost = onRailCost;
+        copy.railsExitCost = railsExitCost;
+        copy.swimCost = swimCost;
+        copy.swimCostEnter = swimCostEnter;
+        copy.traverseToggleAbleCost = traverseToggleAbleCost;
+        copy.canUseRails = canUseRails;
+        copy.canSwim = canSwim;
+        copy.enterDoors = enterDoors;
+        copy.canOpenDoors = canOpenDoors;
+        copy.canFitInOneCube = canFitInOneCube;
+        copy.isRoad = isRoad;
+        return copy;
+    }
+
     public boolean canOpenDoors()
     {
         return canOpenDoors;
@@ -178,6 +204,44 @@ public class PathingOptions
         return this;
     }
 
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof PathingOptions))
+        {
+            return false;
+        }
+        final PathingOptions that = (PathingOptions) o;
+        return Double.compare(that.jumpCost, jumpCost) == 0
+                 && Double.compare(that.dropCost, dropCost) == 0
+                 && Double.compare(that.onPathCost, onPathCost) == 0
+                 && Double.compare(that.onRailCost, onRailCost) == 0
+                 && Double.compare(that.railsExitCost, railsExitCost) == 0
+                 && Double.compare(that.swimCost, swimCost) == 0
+                 && Double.compare(that.swimCostEnter, swimCostEnter) == 0
+                 && Double.compare(that.traverseToggleAbleCost, traverseToggleAbleCost) == 0
+                 && canUseRails == that.canUseRails
+                 && canSwim == that.canSwim
+                 && enterDoors == that.enterDoors
+                 && canOpenDoors == that.canOpenDoors
+                 && canFitInOneCube == that.canFitInOneCube
+                 && isRoad == that.isRoad;
+    }
+
+    /**
+     * Hash of every option that changes the computed path, used to key cached routes.
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(jumpCost, dropCost, onPathCost, onRailCost, railsExitCost, swimCost, swimCostEnter, traverseToggleAbleCost,
+          canUseRails, canSwim, enterDoors, canOpenDoors, canFitInOneCube, System.identityHashCode(isRoad));
+    }
+
     /**
      * Sets swimming ability
      *
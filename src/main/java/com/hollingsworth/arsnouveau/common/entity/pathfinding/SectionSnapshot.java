@@ -0,0 +1,110 @@
+package com.hollingsworth.arsnouveau.common.entity.pathfinding;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.material.Material;
+import net.minecraft.world.chunk.ChunkSection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Immutable copy of the block states of one 16x16x16 chunk section, shared by path jobs through {@link SectionSnapshotCache}.
+ * Also keeps a bitmap of the air blocks, which every pathing check can pass through without looking at shapes.
+ */
+public final class SectionSnapshot
+{
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    /**
+     * States indexed by (y << 8 | z << 4 | x), or null if the section is all air.
+     */
+    @Nullable
+    private final BlockState[] states;
+
+    /**
+     * One bit per block, set if the block is air. Null if the section is all air.
+     */
+    @Nullable
+    private final long[] airBits;
+
+    /**
+     * Change stamp of the section when this snapshot was taken, see {@link SectionSnapshotCache#getStamp(long)}.
+     */
+    final long stamp;
+
+    private SectionSnapshot(@Nullable final BlockState[] states, @Nullable final long[] airBits, final long stamp)
+    {
+        this.states = states;
+        this.airBits = airBits;
+        this.stamp = stamp;
+    }
+
+    /**
+     * Copies the states of a section.
+     *
+     * @param section the section, may be null for ungenerated sections.
+     * @param stamp   the change stamp of the section before copying.
+     * @return the snapshot.
+     */
+    public static SectionSnapshot of(@Nullable final ChunkSection section, final long stamp)
+    {
+        if (ChunkSection.isEmpty(section))
+        {
+            return new SectionSnapshot(null, null, stamp);
+        }
+        final BlockState[] states = new BlockState[4096];
+        final long[] airBits = new long[64];
+        for (int y = 0; y < 16; y++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    final int index = y << 8 | z << 4 | x;
+                    final BlockState state = section.getBlockState(x, y, z);
+                    states[index] = state;
+                    if (state.getMaterial() == Material.AIR)
+                    {
+                        airBits[index >> 6] |= 1L << (index & 63);
+                    }
+                }
+            }
+        }
+        return new SectionSnapshot(states, airBits, stamp);
+    }
+
+    /**
+     * @return the change stamp of the section when this snapshot was taken.
+     */
+    public long getStamp()
+    {
+        return stamp;
+    }
+
+    /**
+     * @param x x within the section, 0 to 15.
+     * @param y y within the section, 0 to 15.
+     * @param z z within the section, 0 to 15.
+     * @return the state at that position.
+     */
+    public BlockState getBlockState(final int x, final int y, final int z)
+    {
+        return states == null ? AIR : states[y << 8 | z << 4 | x];
+    }
+
+    /**
+     * @param x x within the section, 0 to 15.
+     * @param y y within the section, 0 to 15.
+     * @param z z within the section, 0 to 15.
+     * @return true if the block at that position is air.
+     */
+    public boolean isAir(final int x, final int y, final int z)
+    {
+        if (airBits == null)
+        {
+            return true;
+        }
+        final int index = y << 8 | z << 4 | x;
+        return (airBits[index >> 6] & (1L << (index & 63))) != 0;
+    }
+}
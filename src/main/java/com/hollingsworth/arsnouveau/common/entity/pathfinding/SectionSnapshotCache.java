@@ -0,0 +1,151 @@
+package com.hollingsworth.arsnouveau.common.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Per-world cache of {@link SectionSnapshot}s, shared by every path job in that world.
+ * Path jobs take snapshots on their worker thread the first time they read a section, see {@link ChunkCache}, so only
+ * the sections a search actually reaches are ever copied. A snapshot is only kept if no block of its section changed
+ * while it was copied, which the change stamp tells.
+ * Snapshots are dropped when a block in the section changes, see {@link com.hollingsworth.arsnouveau.common.mixin.ChunkMixin},
+ * and when its chunk unloads. Each section has a change stamp that invalidation bumps, so cached routes can check that
+ * nothing they pass through changed since they were computed.
+ */
+public final class SectionSnapshotCache
+{
+    /**
+     * Number of changed sections to track before starting a new generation.
+     */
+    private static final int MAX_TRACKED_SECTIONS = 1 << 16;
+
+    private static final Map<IWorld, SectionSnapshotCache> caches = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Long2ObjectOpenHashMap<SectionSnapshot> snapshots = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Number of changes per section in the current generation, absent if unchanged.
+     */
+    private final Long2IntOpenHashMap versions = new Long2IntOpenHashMap();
+
+    /**
+     * Bumped whenever the versions are cleared, which changes the stamp of every section.
+     */
+    private int generation;
+
+    private SectionSnapshotCache()
+    {
+    }
+
+    public static SectionSnapshotCache get(final IWorld world)
+    {
+        return caches.computeIfAbsent(world, w -> new SectionSnapshotCache());
+    }
+
+    /**
+     * Drops the snapshot of the section containing this block. Called on the server thread when the block changes.
+     *
+     * @param world the world.
+     * @param pos   the changed block.
+     */
+    public static void invalidate(final IWorld world, final BlockPos pos)
+    {
+        final SectionSnapshotCache cache = caches.get(world);
+        if (cache != null)
+        {
+            cache.invalidateSection(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        }
+    }
+
+    /**
+     * Drops the snapshots of every section of a chunk. Called when the chunk unloads.
+     *
+     * @param world the world.
+     * @param pos   the chunk.
+     */
+    public static void invalidateChunk(final IWorld world, final ChunkPos pos)
+    {
+        final SectionSnapshotCache cache = caches.get(world);
+        if (cache != null)
+        {
+            for (int sectionY = 0; sectionY < 16; sectionY++)
+            {
+                cache.invalidateSection(SectionPos.asLong(pos.x, sectionY, pos.z));
+            }
+        }
+    }
+
+    public static void clear(final IWorld world)
+    {
+        caches.remove(world);
+    }
+
+    /**
+     * Returns the snapshot of a section, taking it if there is none. Safe to call from the pathfinding workers: the
+     * copy is made outside the lock and only stored if the stamp of the section did not change meanwhile. A copy that
+     * raced with a block change is still returned, with the older stamp, so routes built from it never validate.
+     *
+     * @param chunk    the chunk.
+     * @param sectionY the section index, 0 to 15.
+     * @return the snapshot.
+     */
+    public SectionSnapshot getSection(final Chunk chunk, final int sectionY)
+    {
+        final long key = SectionPos.asLong(chunk.getPos().x, sectionY, chunk.getPos().z);
+        final long stamp;
+        synchronized (this)
+        {
+            final SectionSnapshot cached = snapshots.get(key);
+            if (cached != null)
+            {
+                return cached;
+            }
+            stamp = getStamp(key);
+        }
+
+        final ChunkSection[] sections = chunk.getSections();
+        final SectionSnapshot snapshot = SectionSnapshot.of(sectionY < sections.length ? sections[sectionY] : null, stamp);
+        synchronized (this)
+        {
+            if (getStamp(key) == stamp)
+            {
+                snapshots.put(key, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the change stamp of a section. It differs from every earlier stamp of the section once a block in it changed.
+     *
+     * @param sectionKey the section, packed with {@link SectionPos#asLong(int, int, int)}.
+     * @return the stamp.
+     */
+    public synchronized long getStamp(final long sectionKey)
+    {
+        return (long) generation << 32 | (versions.get(sectionKey) & 0xFFFFFFFFL);
+    }
+
+    private synchronized void invalidateSection(final long key)
+    {
+        snapshots.remove(key);
+        if (versions.size() >= MAX_TRACKED_SECTIONS && !versions.containsKey(key))
+        {
+            // Forget old changes instead of growing forever, at the cost of invalidating every stamp handed out so far.
+            versions.clear();
+            snapshots.clear();
+            generation++;
+        }
+        versions.addTo(key, 1);
+    }
+}
@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.entity.pathfinding.pathjobs;
 
 import com.hollingsworth.arsnouveau.common.entity.pathfinding.*;
 import com.hollingsworth.arsnouveau.common.util.Log;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.LivingEntity;
@@ -21,6 +22,7 @@ import net.minecraft.util.math.vector.Vector3i;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 
+import javax.annotation.Nullable;
 import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.concurrent.Callable;
@@ -57,14 +59,24 @@ public abstract class AbstractPathJob implements Callable<Path> {
     protected final int maxRange;
 
     /**
-     * Queue of all open nodes.
+     * Open heaps, visited maps and nodes reused by every job that runs on the same pathfinding worker.
      */
-    public Queue<Node> nodesOpen = new PriorityQueue<>(500);
+    private static final ThreadLocal<SearchBuffers> SEARCH_BUFFERS = ThreadLocal.withInitial(SearchBuffers::new);
 
     /**
-     * Queue of all the visited nodes.
+     * Queue of all open nodes. Set up by {@link #resetSearch()}.
      */
-    public Map<Integer, Node> nodesVisited = new HashMap<>();
+    public NodeHeap nodesOpen;
+
+    /**
+     * All the visited nodes, keyed by {@link BlockPos#asLong()}. Set up by {@link #resetSearch()}.
+     */
+    public Long2ObjectOpenHashMap<Node> nodesVisited;
+
+    /**
+     * Buffers of the worker running this job, null outside of {@link #call()}.
+     */
+    private SearchBuffers buffers;
 
     //  Debug Rendering
     protected boolean debugDrawEnabled = false;
@@ -107,6 +119,11 @@ public abstract class AbstractPathJob implements Callable<Path> {
      */
     protected WeakReference<LivingEntity> entity;
 
+    /**
+     * Whether this job was created for an entity, so a cleared reference means the entity is gone.
+     */
+    private final boolean hasEntity;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -157,6 +174,7 @@ public abstract class AbstractPathJob implements Callable<Path> {
             debugNodesPath = new HashSet<>();
         }
         this.entity = new WeakReference<>(entity);
+        this.hasEntity = entity != null;
     }
 
     /**
@@ -235,6 +253,7 @@ public abstract class AbstractPathJob implements Callable<Path> {
             debugNodesPath = new HashSet<>();
         }
         this.entity = new WeakReference<>(entity);
+        this.hasEntity = entity != null;
     }
 
     protected boolean onLadderGoingUp(final Node currentNode, final BlockPos dPos) {
@@ -353,16 +372,13 @@ public abstract class AbstractPathJob implements Callable<Path> {
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates Encodes the lowest 12 bits of x,z and all useful bits of y. This creates unique keys for all
-     * blocks within a 4096x256x4096 cube, which is FAR bigger volume than one should attempt to pathfind within This version takes a BlockPos
+     * Generate the unique key for identifying a given node by it's coordinates.
      *
      * @param pos BlockPos to generate key from
      * @return key for node in map
      */
-    private static int computeNodeKey(final BlockPos pos) {
-        return ((pos.getX() & 0xFFF) << 20)
-                | ((pos.getY() & 0xFF) << 12)
-                | (pos.getZ() & 0xFFF);
+    private static long computeNodeKey(final BlockPos pos) {
+        return pos.asLong();
     }
 
     /**
@@ -479,6 +495,41 @@ public abstract class AbstractPathJob implements Callable<Path> {
         return result;
     }
 
+    public BlockPos getStart() {
+        return start;
+    }
+
+    /**
+     * @return the block cache this job searched in.
+     */
+    public IWorldReader getWorld() {
+        return world;
+    }
+
+    /**
+     * @return the entity this job paths for, or null if there is none or it was unloaded.
+     */
+    @Nullable
+    public LivingEntity getEntity() {
+        return entity.get();
+    }
+
+    /**
+     * Checked by the pathfinding executor before the search starts.
+     *
+     * @return true if the path was cancelled or the entity it was for has died or unloaded.
+     */
+    public boolean isStale() {
+        if (result.isCancelled()) {
+            return true;
+        }
+        if (!hasEntity) {
+            return false;
+        }
+        final LivingEntity living = entity.get();
+        return living == null || !living.isAlive();
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -491,11 +542,36 @@ public abstract class AbstractPathJob implements Callable<Path> {
         } catch (final Exception e) {
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
+        } finally {
+            nodesOpen = null;
+            nodesVisited = null;
+            buffers = null;
         }
 
         return null;
     }
 
+    /**
+     * Clears the open and visited nodes before a search, reusing the buffers of the current thread.
+     */
+    protected void resetSearch() {
+        buffers = SEARCH_BUFFERS.get();
+        buffers.reset();
+        nodesOpen = buffers.open;
+        nodesVisited = buffers.visited;
+    }
+
+    /**
+     * Creates a node, reusing one from the worker's pool when possible.
+     * Debug drawing keeps nodes after the job ends, so those are never pooled.
+     */
+    private Node obtainNode(final Node parent, final BlockPos pos, final double cost, final double heuristic, final double score) {
+        if (debugDrawEnabled || buffers == null) {
+            return new Node(parent, pos, cost, heuristic, score);
+        }
+        return buffers.obtain(parent, pos, cost, heuristic, score);
+    }
+
     /**
      * Perform the search.
      *
@@ -503,6 +579,7 @@ public abstract class AbstractPathJob implements Callable<Path> {
      */
 
     protected Path search() {
+        resetSearch();
         Node bestNode = getAndSetupStartNode();
 
         double bestNodeResultScore = Double.MAX_VALUE;
@@ -633,8 +710,8 @@ public abstract class AbstractPathJob implements Callable<Path> {
 
 
     private Node getAndSetupStartNode() {
-        final Node startNode = new Node(start,
-                computeHeuristic(start));
+        final double startHeuristic = computeHeuristic(start);
+        final Node startNode = obtainNode(null, start, 0, startHeuristic, startHeuristic);
 
         if (isLadder(start)) {
             startNode.setLadder();
@@ -829,7 +906,7 @@ public abstract class AbstractPathJob implements Callable<Path> {
             }
         }
 
-        int nodeKey = computeNodeKey(pos);
+        final long nodeKey = computeNodeKey(pos);
         Node node = nodesVisited.get(nodeKey);
         if (nodeClosed(node)) {
             //  Early out on closed nodes (closed = expanded from)
@@ -856,12 +933,11 @@ public abstract class AbstractPathJob implements Callable<Path> {
             node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
             node.setOnRails(onRails);
             node.setCornerNode(corner);
+            nodesOpen.offer(node);
         } else if (updateCurrentNode(parent, node, heuristic, cost, score)) {
             return false;
         }
 
-        nodesOpen.offer(node);
-
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
         // lets go another step in the same direction...
@@ -878,10 +954,9 @@ public abstract class AbstractPathJob implements Callable<Path> {
 
 
     private Node createNode(
-            final Node parent, final BlockPos pos, final int nodeKey,
+            final Node parent, final BlockPos pos, final long nodeKey,
             final boolean isSwimming, final double heuristic, final double cost, final double score) {
-        final Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
+        final Node node = obtainNode(parent, pos, cost, heuristic, score);
         nodesVisited.put(nodeKey, node);
         if (debugDrawEnabled) {
             debugNodesNotVisited.add(node);
@@ -904,7 +979,7 @@ public abstract class AbstractPathJob implements Callable<Path> {
             return true;
         }
 
-        if (!nodesOpen.remove(node)) {
+        if (!nodesOpen.contains(node)) {
             return true;
         }
 
@@ -913,6 +988,7 @@ public abstract class AbstractPathJob implements Callable<Path> {
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        nodesOpen.decreaseKey(node);
         return false;
     }
 
@@ -1158,6 +1234,10 @@ public abstract class AbstractPathJob implements Callable<Path> {
     }
 
     protected boolean isPassable(final BlockPos pos, final boolean head, final Node parent) {
+        if (world instanceof ChunkCache && ((ChunkCache) world).isAir(pos)) {
+            // Air bitmap of the section snapshot, no state or shape lookup needed
+            return true;
+        }
         final BlockState state = world.getBlockState(pos);
         final VoxelShape shape = state.getCollisionShape(world, pos);
         if (shape.isEmpty() || shape.max(Direction.Axis.Y) <= 0.1) {
@@ -1257,4 +1337,41 @@ public abstract class AbstractPathJob implements Callable<Path> {
         }
         return pos.getX() <= maxX && pos.getZ() <= maxZ && pos.getZ() >= minZ && pos.getX() >= minX;
     }
+
+    /**
+     * Per-thread search state. Nodes handed out by {@link #obtain} stay valid until the next {@link #reset()}.
+     */
+    private static final class SearchBuffers {
+        /**
+         * Largest number of nodes, heap slots and map entries kept between jobs.
+         */
+        private static final int MAX_POOLED = 1 << 15;
+
+        final NodeHeap open = new NodeHeap(500);
+        final Long2ObjectOpenHashMap<Node> visited = new Long2ObjectOpenHashMap<>();
+        private final List<Node> pool = new ArrayList<>();
+        private int used;
+
+        Node obtain(final Node parent, final BlockPos pos, final double cost, final double heuristic, final double score) {
+            if (used < pool.size()) {
+                return pool.get(used++).init(parent, pos, cost, heuristic, score);
+            }
+            final Node node = new Node(parent, pos, cost, heuristic, score);
+            if (pool.size() < MAX_POOLED) {
+                pool.add(node);
+                used++;
+            }
+            return node;
+        }
+
+        void reset() {
+            open.clear(MAX_POOLED);
+            final boolean oversized = visited.size() > MAX_POOLED;
+            visited.clear();
+            if (oversized) {
+                visited.trim();
+            }
+            used = 0;
+        }
+    }
 }
@@ -5,9 +5,7 @@ import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.PriorityQueue;
 
 public class PathJobMoveToPathable extends PathJobMoveToLocation{
 
@@ -33,8 +31,6 @@ public class PathJobMoveToPathable extends PathJobMoveToLocation{
         for(BlockPos p : destinations){
             this.destination = p;
             totalNodesVisited = 0;
-            nodesOpen =  new PriorityQueue<>(500);
-            nodesVisited = new HashMap<>();
             path = super.search();
             if(path.canReach())
                 return path;
@@ -1,15 +1,28 @@
 package com.hollingsworth.arsnouveau.common.event;
 
 import com.hollingsworth.arsnouveau.ArsNouveau;
+import com.hollingsworth.arsnouveau.api.enchanting_apparatus.PedestalNetwork;
 import com.hollingsworth.arsnouveau.api.event.DispelEvent;
 import com.hollingsworth.arsnouveau.api.event.FlightRefreshEvent;
+import com.hollingsworth.arsnouveau.api.mana.ManaTileSyncQueue;
+import com.hollingsworth.arsnouveau.api.mana.SourceNetwork;
+import com.hollingsworth.arsnouveau.api.mana.SourcelinkEventQueue;
+import com.hollingsworth.arsnouveau.api.util.BlockOperationQueue;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
+import com.hollingsworth.arsnouveau.api.util.FollowTrailQueue;
+import com.hollingsworth.arsnouveau.api.util.InventoryCountCache;
+import com.hollingsworth.arsnouveau.api.util.TemporaryBlockScheduler;
+import com.hollingsworth.arsnouveau.api.util.TurretFireQueue;
 import com.hollingsworth.arsnouveau.client.ClientInfo;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.block.LavaLily;
 import com.hollingsworth.arsnouveau.common.command.DataDumpCommand;
 import com.hollingsworth.arsnouveau.common.command.PathCommand;
 import com.hollingsworth.arsnouveau.common.command.ResetCommand;
+import com.hollingsworth.arsnouveau.common.command.SpellMetricsCommand;
 import com.hollingsworth.arsnouveau.common.compat.CaelusHandler;
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.PathRouteCache;
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.SectionSnapshotCache;
 import com.hollingsworth.arsnouveau.common.items.VoidJar;
 import com.hollingsworth.arsnouveau.common.potions.ModPotions;
 import com.hollingsworth.arsnouveau.common.ritual.RitualFlight;
@@ -37,6 +50,8 @@ import net.minecraftforge.event.entity.living.LivingHealEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import net.minecraftforge.event.entity.player.EntityItemPickupEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -110,6 +125,19 @@ public class EventHandler {
         }
     }
 
+    @SubscribeEvent
+    public static void worldTickEnd(TickEvent.WorldTickEvent event){
+        if(event.phase == TickEvent.Phase.END && !event.world.isClientSide){
+            ManaTileSyncQueue.flush(event.world);
+            FollowTrailQueue.flush(event.world);
+            BlockOperationQueue.flush(event.world);
+            if(event.world instanceof ServerWorld){
+                TurretFireQueue.flush((ServerWorld) event.world);
+                TemporaryBlockScheduler.get((ServerWorld) event.world).tick((ServerWorld) event.world);
+            }
+        }
+    }
+
     @SubscribeEvent(priority = EventPriority.LOWEST)
     public static void onGlideTick(TickEvent.PlayerTickEvent event){
         if(ArsNouveau.caelusLoaded && event.player.hasEffect(ModPotions.GLIDE_EFFECT)) {
@@ -180,11 +208,35 @@ public class EventHandler {
     }
 
 
+    @SubscribeEvent
+    public static void worldUnload(WorldEvent.Unload event){
+        if(event.getWorld() instanceof World && !event.getWorld().isClientSide()){
+            SourcelinkEventQueue.clear((World) event.getWorld());
+            ManaTileSyncQueue.clear((World) event.getWorld());
+            FollowTrailQueue.clear((World) event.getWorld());
+            TurretFireQueue.clear((World) event.getWorld());
+            BlockOperationQueue.clear((World) event.getWorld());
+            PathRouteCache.clear((World) event.getWorld());
+            InventoryCountCache.clear((World) event.getWorld());
+            EntityQueryCache.clear((World) event.getWorld());
+        }
+        SourceNetwork.clear(event.getWorld());
+        PedestalNetwork.clear(event.getWorld());
+        SectionSnapshotCache.clear(event.getWorld());
+    }
+
+    @SubscribeEvent
+    public static void chunkUnload(ChunkEvent.Unload event){
+        if(event.getWorld() != null && !event.getWorld().isClientSide())
+            SectionSnapshotCache.invalidateChunk(event.getWorld(), event.getChunk().getPos());
+    }
+
     @SubscribeEvent
     public static void commandRegister(RegisterCommandsEvent event){
         ResetCommand.register(event.getDispatcher());
         DataDumpCommand.register(event.getDispatcher());
         PathCommand.register(event.getDispatcher());
+        SpellMetricsCommand.register(event.getDispatcher());
     }
 
     private EventHandler(){}
@@ -4,17 +4,18 @@ import com.hollingsworth.arsnouveau.ArsNouveau;
 import com.hollingsworth.arsnouveau.api.mana.IMana;
 import com.hollingsworth.arsnouveau.api.util.ManaUtil;
 import com.hollingsworth.arsnouveau.common.capability.ManaCapability;
-import com.hollingsworth.arsnouveau.common.network.Networking;
-import com.hollingsworth.arsnouveau.common.network.PacketUpdateMana;
+import com.hollingsworth.arsnouveau.common.network.ManaSyncTracker;
 import com.hollingsworth.arsnouveau.setup.Config;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
+import net.minecraftforge.event.entity.living.PotionEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
-import net.minecraftforge.fml.network.PacketDistributor;
+import top.theillusivec4.curios.api.event.CurioChangeEvent;
 
 @Mod.EventBusSubscriber(modid = ArsNouveau.MODID)
 public class ManaCapEvents {
@@ -22,7 +23,12 @@ public class ManaCapEvents {
 
     @SubscribeEvent
     public static void playerOnTick(TickEvent.PlayerTickEvent e) {
-        if(e.player.getCommandSenderWorld().isClientSide || e.player.getCommandSenderWorld().getGameTime() % Config.REGEN_INTERVAL.get() != 0)
+        if(e.player.getCommandSenderWorld().isClientSide)
+            return;
+        // Changes from regen, casting and equipment are batched into one packet.
+        if(e.phase == TickEvent.Phase.END)
+            ManaSyncTracker.flush((ServerPlayerEntity) e.player);
+        if(e.player.getCommandSenderWorld().getGameTime() % Config.REGEN_INTERVAL.get() != 0)
             return;
 
         IMana mana = ManaCapability.getMana(e.player).orElse(null);
@@ -32,15 +38,43 @@ public class ManaCapEvents {
         if (mana.getCurrentMana() != mana.getMaxMana()) {
             double regenPerSecond = ManaUtil.getManaRegen(e.player) / Math.max(1, ((int)MEAN_TPS / Config.REGEN_INTERVAL.get()));
             mana.addMana(regenPerSecond);
-            Networking.INSTANCE.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) e.player), new PacketUpdateMana(mana.getCurrentMana(), mana.getMaxMana(), mana.getGlyphBonus(), mana.getBookTier()));
         }
         int max = ManaUtil.getMaxMana(e.player);
         if(mana.getMaxMana() != max) {
             mana.setMaxMana(max);
-            Networking.INSTANCE.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) e.player), new PacketUpdateMana(mana.getCurrentMana(), mana.getMaxMana(), mana.getGlyphBonus(), mana.getBookTier()));
         }
     }
 
+    @SubscribeEvent
+    public static void equipmentChange(LivingEquipmentChangeEvent e) {
+        if(e.getEntityLiving() instanceof PlayerEntity && !e.getEntityLiving().level.isClientSide)
+            ManaUtil.invalidateManaStats(e.getEntityLiving());
+    }
+
+    @SubscribeEvent
+    public static void curioChange(CurioChangeEvent e) {
+        if(e.getEntityLiving() instanceof PlayerEntity && !e.getEntityLiving().level.isClientSide)
+            ManaUtil.invalidateManaStats(e.getEntityLiving());
+    }
+
+    @SubscribeEvent
+    public static void potionAdded(PotionEvent.PotionAddedEvent e) {
+        if(e.getEntityLiving() instanceof PlayerEntity && !e.getEntityLiving().level.isClientSide)
+            ManaUtil.invalidateManaStats(e.getEntityLiving());
+    }
+
+    @SubscribeEvent
+    public static void potionRemoved(PotionEvent.PotionRemoveEvent e) {
+        if(e.getEntityLiving() instanceof PlayerEntity && !e.getEntityLiving().level.isClientSide)
+            ManaUtil.invalidateManaStats(e.getEntityLiving());
+    }
+
+    @SubscribeEvent
+    public static void potionExpired(PotionEvent.PotionExpiryEvent e) {
+        if(e.getEntityLiving() instanceof PlayerEntity && !e.getEntityLiving().level.isClientSide)
+            ManaUtil.invalidateManaStats(e.getEntityLiving());
+    }
+
     @SubscribeEvent
     public static void playerRespawn(PlayerEvent.PlayerRespawnEvent e) {
         syncPlayerEvent(e.getPlayer());
@@ -55,7 +89,7 @@ public class ManaCapEvents {
             newMana.setMaxMana(origMana.getMaxMana());
             newMana.setGlyphBonus(origMana.getGlyphBonus());
             newMana.setBookTier(origMana.getBookTier());
-            Networking.INSTANCE.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity)  e.getEntity()), new PacketUpdateMana(newMana.getCurrentMana(), newMana.getMaxMana(), newMana.getGlyphBonus(), newMana.getBookTier()));
+            ManaSyncTracker.sendFull((ServerPlayerEntity) e.getEntity());
         }));
     }
 
@@ -75,7 +109,7 @@ public class ManaCapEvents {
                 mana.setMaxMana(ManaUtil.getMaxMana(playerEntity));
                 mana.setGlyphBonus(mana.getGlyphBonus());
                 mana.setBookTier(mana.getBookTier());
-                Networking.INSTANCE.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) playerEntity), new PacketUpdateMana(mana.getCurrentMana(), mana.getMaxMana(), mana.getGlyphBonus(), mana.getBookTier()));
+                ManaSyncTracker.sendFull((ServerPlayerEntity) playerEntity);
             });
         }
     }
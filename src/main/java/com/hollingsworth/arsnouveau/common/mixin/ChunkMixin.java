@@ -0,0 +1,28 @@
+package com.hollingsworth.arsnouveau.common.mixin;
+
+import com.hollingsworth.arsnouveau.common.entity.pathfinding.SectionSnapshotCache;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(Chunk.class)
+public class ChunkMixin {
+
+    @Shadow
+    @Final
+    private World level;
+
+    // Every block change goes through here, including the ones that send no neighbor update.
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void invalidatePathSnapshot(BlockPos pos, BlockState state, boolean isMoving, CallbackInfoReturnable<BlockState> cir) {
+        if(cir.getReturnValue() != null && !level.isClientSide)
+            SectionSnapshotCache.invalidate(level, pos);
+    }
+}
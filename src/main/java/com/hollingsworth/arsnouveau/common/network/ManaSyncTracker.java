@@ -0,0 +1,97 @@
+package com.hollingsworth.arsnouveau.common.network;
+
+import com.hollingsworth.arsnouveau.api.mana.IMana;
+import com.hollingsworth.arsnouveau.common.capability.ManaCapability;
+import com.hollingsworth.arsnouveau.setup.Config;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks the mana values last sent to each player so that {@link PacketUpdateMana} only carries changed fields.
+ * Mana changes smaller than one pixel of the HUD bar are held back for up to {@link #MAX_HELD_TICKS}, and each player
+ * receives at most one update per sync interval. The HUD interpolates between updates.
+ */
+public class ManaSyncTracker {
+    // Width of the mana bar in GuiManaHUD
+    private static final int HUD_STEPS = 96;
+
+    // Longest time a small mana change waits before it is sent anyway, the client checks spell costs against it.
+    private static final int MAX_HELD_TICKS = 20;
+
+    private static final Map<ServerPlayerEntity, SentState> sentStates = new WeakHashMap<>();
+
+    /**
+     * Sends any changed mana fields to the player if its send budget allows. Call once per tick.
+     */
+    public static void flush(ServerPlayerEntity player){
+        IMana mana = ManaCapability.getMana(player).orElse(null);
+        if(mana == null)
+            return;
+        SentState sent = sentStates.get(player);
+        if(sent == null){
+            sendFull(player);
+            return;
+        }
+        long gameTime = player.level.getGameTime();
+        if(gameTime - sent.lastSendTick < Config.MANA_SYNC_INTERVAL.get())
+            return;
+
+        int fields = 0;
+        double currentMana = mana.getCurrentMana();
+        int maxMana = mana.getMaxMana();
+        if(maxMana != sent.maxMana)
+            fields |= PacketUpdateMana.MAX_MANA;
+        if(mana.getGlyphBonus() != sent.glyphBonus)
+            fields |= PacketUpdateMana.GLYPH_BONUS;
+        if(mana.getBookTier() != sent.tierBonus)
+            fields |= PacketUpdateMana.TIER_BONUS;
+        if(currentMana != sent.mana){
+            int step = Math.max(1, maxMana / HUD_STEPS);
+            // Always send reaching empty or full so the bar settles on the right value, and never hold a change for long.
+            if(Math.abs(currentMana - sent.mana) >= step || currentMana <= 0 || currentMana >= maxMana || fields != 0
+                    || gameTime - sent.lastManaSendTick >= MAX_HELD_TICKS)
+                fields |= PacketUpdateMana.MANA;
+        }
+        if(fields == 0)
+            return;
+        send(player, mana, fields, sent, gameTime);
+    }
+
+    /**
+     * Sends every field immediately, ignoring the send budget. Used on login, respawn and dimension changes.
+     */
+    public static void sendFull(ServerPlayerEntity player){
+        IMana mana = ManaCapability.getMana(player).orElse(null);
+        if(mana == null)
+            return;
+        send(player, mana, PacketUpdateMana.ALL, sentStates.computeIfAbsent(player, p -> new SentState()), player.level.getGameTime());
+    }
+
+    private static void send(ServerPlayerEntity player, IMana mana, int fields, SentState sent, long gameTime){
+        if((fields & PacketUpdateMana.MANA) != 0){
+            sent.mana = mana.getCurrentMana();
+            sent.lastManaSendTick = gameTime;
+        }
+        if((fields & PacketUpdateMana.MAX_MANA) != 0)
+            sent.maxMana = mana.getMaxMana();
+        if((fields & PacketUpdateMana.GLYPH_BONUS) != 0)
+            sent.glyphBonus = mana.getGlyphBonus();
+        if((fields & PacketUpdateMana.TIER_BONUS) != 0)
+            sent.tierBonus = mana.getBookTier();
+        sent.lastSendTick = gameTime;
+        Networking.INSTANCE.send(PacketDistributor.PLAYER.with(() -> player),
+                new PacketUpdateMana(fields, mana.getCurrentMana(), mana.getMaxMana(), mana.getGlyphBonus(), mana.getBookTier()));
+    }
+
+    private static class SentState{
+        double mana;
+        int maxMana;
+        int glyphBonus;
+        int tierBonus;
+        long lastSendTick;
+        long lastManaSendTick;
+    }
+}
@@ -133,6 +133,24 @@ public class Networking {
                 PacketTogglePathing::toBytes,
                 PacketTogglePathing::new,
                 PacketTogglePathing::handle);
+        INSTANCE.registerMessage(nextID(),
+                PacketUpdateManaTile.class,
+                PacketUpdateManaTile::encode,
+                PacketUpdateManaTile::decode,
+                PacketUpdateManaTile.Handler::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+        INSTANCE.registerMessage(nextID(),
+                PacketFollowTrails.class,
+                PacketFollowTrails::encode,
+                PacketFollowTrails::decode,
+                PacketFollowTrails.Handler::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+        INSTANCE.registerMessage(nextID(),
+                PacketOneShotAnimations.class,
+                PacketOneShotAnimations::encode,
+                PacketOneShotAnimations::decode,
+                PacketOneShotAnimations.Handler::handle,
+                Optional.of(NetworkDirection.PLAY_TO_CLIENT));
     }
 
     public static void sendToNearby(World world, BlockPos pos, Object toSend){
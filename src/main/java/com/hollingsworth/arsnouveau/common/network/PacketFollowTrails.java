@@ -0,0 +1,84 @@
+package com.hollingsworth.arsnouveau.common.network;
+
+import com.hollingsworth.arsnouveau.client.particle.FollowTrailEffects;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Every follow trail that started in one chunk during one tick, drawn on the client by {@link FollowTrailEffects}.
+ */
+public class PacketFollowTrails {
+    final List<Trail> trails;
+
+    public static class Trail {
+        public final BlockPos from;
+        public final BlockPos to;
+        public final int color;
+        public final boolean spawnTouch;
+        public final int despawnDistance;
+
+        /**
+         * @param color packed 0xRRGGBB color of the trail.
+         * @param despawnDistance distance from the destination at which the trail gives up.
+         */
+        public Trail(BlockPos from, BlockPos to, int color, boolean spawnTouch, int despawnDistance){
+            this.from = from;
+            this.to = to;
+            this.color = color;
+            this.spawnTouch = spawnTouch;
+            this.despawnDistance = despawnDistance;
+        }
+    }
+
+    public PacketFollowTrails(List<Trail> trails){
+        this.trails = trails;
+    }
+
+    public static PacketFollowTrails decode(PacketBuffer buf) {
+        int size = buf.readVarInt();
+        List<Trail> trails = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            trails.add(new Trail(BlockPos.of(buf.readLong()), BlockPos.of(buf.readLong()), buf.readMedium(), buf.readBoolean(), buf.readVarInt()));
+        }
+        return new PacketFollowTrails(trails);
+    }
+
+    public static void encode(PacketFollowTrails msg, PacketBuffer buf) {
+        buf.writeVarInt(msg.trails.size());
+        for(Trail trail : msg.trails){
+            buf.writeLong(trail.from.asLong());
+            buf.writeLong(trail.to.asLong());
+            buf.writeMedium(trail.color);
+            buf.writeBoolean(trail.spawnTouch);
+            buf.writeVarInt(trail.despawnDistance);
+        }
+    }
+
+    public static class Handler {
+        public static void handle(final PacketFollowTrails m, final Supplier<NetworkEvent.Context> ctx) {
+            if (ctx.get().getDirection().getReceptionSide().isServer()) {
+                ctx.get().setPacketHandled(true);
+                return;
+            }
+
+            ctx.get().enqueueWork(new Runnable() {
+                // Use anon - lambda causes classloading issues
+                @Override
+                public void run() {
+                    ClientWorld world = Minecraft.getInstance().level;
+                    if(world == null)
+                        return;
+                    FollowTrailEffects.add(world, m.trails);
+                }
+            });
+            ctx.get().setPacketHandled(true);
+        }
+    }
+}
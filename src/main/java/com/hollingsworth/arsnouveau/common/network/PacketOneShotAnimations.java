@@ -0,0 +1,69 @@
+package com.hollingsworth.arsnouveau.common.network;
+
+import com.hollingsworth.arsnouveau.common.block.tile.IAnimationListener;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link PacketOneShotAnimation} for several blocks at once, such as every turret that fired in a chunk during one tick.
+ */
+public class PacketOneShotAnimations {
+    final List<BlockPos> positions;
+    final int arg;
+
+    public PacketOneShotAnimations(List<BlockPos> positions, int arg){
+        this.positions = positions;
+        this.arg = arg;
+    }
+
+    public static PacketOneShotAnimations decode(PacketBuffer buf) {
+        int arg = buf.readInt();
+        int size = buf.readVarInt();
+        List<BlockPos> positions = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            positions.add(BlockPos.of(buf.readLong()));
+        }
+        return new PacketOneShotAnimations(positions, arg);
+    }
+
+    public static void encode(PacketOneShotAnimations msg, PacketBuffer buf) {
+        buf.writeInt(msg.arg);
+        buf.writeVarInt(msg.positions.size());
+        for(BlockPos pos : msg.positions){
+            buf.writeLong(pos.asLong());
+        }
+    }
+
+    public static class Handler {
+        public static void handle(final PacketOneShotAnimations m, final Supplier<NetworkEvent.Context> ctx) {
+            if (ctx.get().getDirection().getReceptionSide().isServer()) {
+                ctx.get().setPacketHandled(true);
+                return;
+            }
+
+            ctx.get().enqueueWork(new Runnable() {
+                // Use anon - lambda causes classloading issues
+                @Override
+                public void run() {
+                    ClientWorld world = Minecraft.getInstance().level;
+                    if(world == null)
+                        return;
+                    for(BlockPos pos : m.positions){
+                        TileEntity tile = world.getBlockEntity(pos);
+                        if(tile instanceof IAnimationListener)
+                            ((IAnimationListener) tile).startAnimation(m.arg);
+                    }
+                }
+            });
+            ctx.get().setPacketHandled(true);
+        }
+    }
+}
@@ -7,7 +7,17 @@ import net.minecraftforge.fml.network.NetworkEvent;
 
 import java.util.function.Supplier;
 
+/**
+ * Syncs the player's mana values. Only the fields flagged in {@link #fields} are written, see {@link ManaSyncTracker}.
+ */
 public class PacketUpdateMana {
+    public static final int MANA = 1;
+    public static final int MAX_MANA = 2;
+    public static final int GLYPH_BONUS = 4;
+    public static final int TIER_BONUS = 8;
+    public static final int ALL = MANA | MAX_MANA | GLYPH_BONUS | TIER_BONUS;
+
+    public int fields;
 
     public double mana;
 
@@ -18,21 +28,37 @@ public class PacketUpdateMana {
     public int tierBonus;
     //Decoder
     public PacketUpdateMana(PacketBuffer buf){
-        mana = buf.readDouble();
-        maxMana = buf.readInt();
-        glyphBonus = buf.readInt();
-        tierBonus = buf.readInt();
+        fields = buf.readByte();
+        if((fields & MANA) != 0)
+            mana = buf.readDouble();
+        if((fields & MAX_MANA) != 0)
+            maxMana = buf.readVarInt();
+        if((fields & GLYPH_BONUS) != 0)
+            glyphBonus = buf.readVarInt();
+        if((fields & TIER_BONUS) != 0)
+            tierBonus = buf.readVarInt();
     }
 
     //Encoder
     public void toBytes(PacketBuffer buf){
-        buf.writeDouble(mana);
-        buf.writeInt(maxMana);
-        buf.writeInt(glyphBonus);
-        buf.writeInt(tierBonus);
+        buf.writeByte(fields);
+        // Mana is sent exactly, the client checks spell costs against it.
+        if((fields & MANA) != 0)
+            buf.writeDouble(mana);
+        if((fields & MAX_MANA) != 0)
+            buf.writeVarInt(maxMana);
+        if((fields & GLYPH_BONUS) != 0)
+            buf.writeVarInt(glyphBonus);
+        if((fields & TIER_BONUS) != 0)
+            buf.writeVarInt(tierBonus);
     }
 
     public PacketUpdateMana(double mana, int maxMana, int glyphBonus, int tierBonus){
+        this(ALL, mana, maxMana, glyphBonus, tierBonus);
+    }
+
+    public PacketUpdateMana(int fields, double mana, int maxMana, int glyphBonus, int tierBonus){
+        this.fields = fields;
         this.mana = mana;
         this.maxMana = maxMana;
         this.glyphBonus = glyphBonus;
@@ -44,10 +70,15 @@ public class PacketUpdateMana {
             if(ArsNouveau.proxy.getPlayer() == null)
                 return;
             ManaCapability.getMana(ArsNouveau.proxy.getPlayer()).ifPresent(mana ->{
-                mana.setMana(this.mana);
-                mana.setMaxMana(this.maxMana);
-                mana.setGlyphBonus(this.glyphBonus);
-                mana.setBookTier(this.tierBonus);
+                // Max first so the new mana value is not clamped to the old max.
+                if((fields & MAX_MANA) != 0)
+                    mana.setMaxMana(this.maxMana);
+                if((fields & MANA) != 0)
+                    mana.setMana(this.mana);
+                if((fields & GLYPH_BONUS) != 0)
+                    mana.setGlyphBonus(this.glyphBonus);
+                if((fields & TIER_BONUS) != 0)
+                    mana.setBookTier(this.tierBonus);
             });
         } );
         ctx.get().setPacketHandled(true);
@@ -0,0 +1,61 @@
+package com.hollingsworth.arsnouveau.common.network;
+
+import com.hollingsworth.arsnouveau.api.mana.AbstractManaTile;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Syncs only the current and max source of a mana tile, sent in place of a full block update.
+ */
+public class PacketUpdateManaTile {
+    final BlockPos pos;
+    final int mana;
+    final int maxMana;
+
+    public PacketUpdateManaTile(BlockPos pos, int mana, int maxMana){
+        this.pos = pos;
+        this.mana = mana;
+        this.maxMana = maxMana;
+    }
+
+    public static PacketUpdateManaTile decode(PacketBuffer buf) {
+        return new PacketUpdateManaTile(buf.readBlockPos(), buf.readVarInt(), buf.readVarInt());
+    }
+
+    public static void encode(PacketUpdateManaTile msg, PacketBuffer buf) {
+        buf.writeBlockPos(msg.pos);
+        buf.writeVarInt(msg.mana);
+        buf.writeVarInt(msg.maxMana);
+    }
+
+    public static class Handler {
+        public static void handle(final PacketUpdateManaTile m, final Supplier<NetworkEvent.Context> ctx) {
+            if (ctx.get().getDirection().getReceptionSide().isServer()) {
+                ctx.get().setPacketHandled(true);
+                return;
+            }
+
+            ctx.get().enqueueWork(new Runnable() {
+                // Use anon - lambda causes classloading issues
+                @Override
+                public void run() {
+                    ClientWorld world = Minecraft.getInstance().level;
+                    if(world == null)
+                        return;
+                    TileEntity tile = world.getBlockEntity(m.pos);
+                    if(tile instanceof AbstractManaTile){
+                        ((AbstractManaTile) tile).setMaxMana(m.maxMana);
+                        ((AbstractManaTile) tile).setMana(m.mana);
+                    }
+                }
+            });
+            ctx.get().setPacketHandled(true);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.hollingsworth.arsnouveau.common.ritual;
 import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
 import com.hollingsworth.arsnouveau.api.familiar.AbstractFamiliarHolder;
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleLineData;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.lib.RitualLib;
@@ -37,7 +38,7 @@ public class RitualBinding extends AbstractRitual {
         if(!world.isClientSide && world.getGameTime() % 20 == 0){
             incrementProgress();
             if(getProgress() >= 3){
-                List<Entity> entities = getWorld().getEntitiesOfClass(Entity.class, new AxisAlignedBB(getPos()).inflate(5));
+                List<Entity> entities = EntityQueryCache.getEntitiesOfClass(getWorld(), Entity.class, new AxisAlignedBB(getPos()).inflate(5));
 
                 for(Entity entity : entities){
                     for(AbstractFamiliarHolder familiarHolder : ArsNouveauAPI.getInstance().getFamiliarHolderMap().values()){
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.ritual;
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.lib.RitualLib;
 import net.minecraft.entity.passive.AnimalEntity;
@@ -15,7 +16,7 @@ public class RitualBreed extends AbstractRitual {
             ParticleUtil.spawnRitualAreaEffect(getPos(), getWorld(), rand, getCenterColor(), 5);
         }else{
             if(getWorld().getGameTime() % 200 == 0){
-                List<AnimalEntity> animals = getWorld().getEntitiesOfClass(AnimalEntity.class, new AxisAlignedBB(getPos()).inflate(5));
+                List<AnimalEntity> animals = EntityQueryCache.getEntitiesOfClass(getWorld(), AnimalEntity.class, new AxisAlignedBB(getPos()).inflate(5));
                 if(animals.size() >= 20)
                     return;
                 boolean didWorkOnce = false;
@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.ritual;
 
 import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleLineData;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
@@ -50,7 +51,7 @@ public class RitualDisintegration extends AbstractRitual {
 
         if(!world.isClientSide && world.getGameTime() % 60 == 0){
             boolean didWorkOnce = false;
-            List<LivingEntity> entityList = world.getEntitiesOfClass(LivingEntity.class, new AxisAlignedBB(getPos()).inflate(5.0),
+            List<LivingEntity> entityList = EntityQueryCache.getEntitiesOfClass(world, LivingEntity.class, new AxisAlignedBB(getPos()).inflate(5.0),
                     (m) -> (m.getClassification(false).equals(EntityClassification.MONSTER) || m.getType().is(EntityTags.DISINTEGRATION_WHITELIST)) && !(m instanceof PlayerEntity));
             for(LivingEntity m : entityList) {
                 if(m.getType().is(EntityTags.DISINTEGRATION_BLACKLIST)) {
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.ritual;
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.lib.RitualLib;
@@ -23,7 +24,7 @@ public class RitualHealing extends AbstractRitual {
             ParticleUtil.spawnRitualAreaEffect(getPos(), getWorld(), rand, getCenterColor(), 5);
         }else{
             if(getWorld().getGameTime() % 100 == 0){
-                List<LivingEntity> entities = getWorld().getEntitiesOfClass(LivingEntity.class, new AxisAlignedBB(getPos()).inflate(5));
+                List<LivingEntity> entities = EntityQueryCache.getEntitiesOfClass(getWorld(), LivingEntity.class, new AxisAlignedBB(getPos()).inflate(5));
                 Optional<LivingEntity> player = entities.stream().filter(e -> e instanceof PlayerEntity).findFirst();
 
                 boolean didWorkOnce = false;
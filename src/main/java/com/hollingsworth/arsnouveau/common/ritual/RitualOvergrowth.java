@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.ritual;
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
 import com.hollingsworth.arsnouveau.common.lib.RitualLib;
@@ -30,7 +31,7 @@ public class RitualOvergrowth extends AbstractRitual {
                 return;
 
             if(isAnimalGrowth()){
-                List<AgeableEntity> animals = getWorld().getEntitiesOfClass(AgeableEntity.class, new AxisAlignedBB(getPos()).inflate(5));
+                List<AgeableEntity> animals = EntityQueryCache.getEntitiesOfClass(getWorld(), AgeableEntity.class, new AxisAlignedBB(getPos()).inflate(5));
                 boolean didWorkOnce = false;
                 for(AgeableEntity a : animals){
                     if(a.isBaby()){
@@ -1,6 +1,7 @@
 package com.hollingsworth.arsnouveau.common.ritual;
 
 import com.hollingsworth.arsnouveau.api.ritual.AbstractRitual;
+import com.hollingsworth.arsnouveau.api.util.EntityQueryCache;
 import com.hollingsworth.arsnouveau.client.particle.ParticleColor;
 import com.hollingsworth.arsnouveau.client.particle.ParticleLineData;
 import com.hollingsworth.arsnouveau.client.particle.ParticleUtil;
@@ -36,7 +37,7 @@ public class RitualWarp extends AbstractRitual {
         if(!world.isClientSide && world.getGameTime() % 20 == 0){
             incrementProgress();
             if(getProgress() >= 3){
-                List<Entity> entities = getWorld().getEntitiesOfClass(LivingEntity.class, new AxisAlignedBB(getPos()).inflate(5));
+                List<Entity> entities = EntityQueryCache.getEntitiesOfClass(getWorld(), LivingEntity.class, new AxisAlignedBB(getPos()).inflate(5));
 
                 ItemStack i = getConsumedItems().get(0);
                 BlockPos b = WarpScroll.getPos(i);
@@ -2,9 +2,11 @@ package com.hollingsworth.arsnouveau.common.spell.effect;
 
 import com.hollingsworth.arsnouveau.GlyphLib;
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockOperationQueue;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.spell.augment.*;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.material.Material;
 import net.minecraft.enchantment.Enchantments;
@@ -49,18 +51,17 @@ public class EffectBreak extends AbstractEffect {
     @Override
     public void onResolveBlock(BlockRayTraceResult rayTraceResult, World world, @Nullable LivingEntity shooter, SpellStats spellStats, SpellContext spellContext) {
         BlockPos pos = rayTraceResult.getBlockPos();
-        BlockState state;
 
         int aoeBuff = spellStats.getBuffCount(AugmentAOE.INSTANCE);
         int pierceBuff = spellStats.getBuffCount(AugmentPierce.INSTANCE);
-        List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, pos, rayTraceResult, aoeBuff, pierceBuff);
+        LongArrayList posList = SpellUtil.calcAOEPositions(shooter, pos, rayTraceResult, aoeBuff, pierceBuff);
         ItemStack stack = spellStats.hasBuff(AugmentSensitive.INSTANCE) ? new ItemStack(Items.SHEARS) : getStack(shooter);
 
-        for(BlockPos pos1 : posList) {
-            state = world.getBlockState(pos1);
+        BlockOperationQueue.run(world, posList, spellContext, pos1 -> {
+            BlockState state = world.getBlockState(pos1);
 
             if(!canBlockBeHarvested(spellStats, world, pos1) || !BlockUtil.destroyRespectsClaim(getPlayer(shooter, (ServerWorld) world), world, pos1)){
-                continue;
+                return true;
             }
             if(spellStats.hasBuff(AugmentExtract.INSTANCE)) {
                 stack.enchant(Enchantments.SILK_TOUCH, 1);
@@ -77,7 +78,8 @@ public class EffectBreak extends AbstractEffect {
                 destroyBlockSafely(world, pos1, false, shooter);
                 state.getBlock().popExperience((ServerWorld) world, pos1, state.getExpDrop(world, pos1, 0, 0));
             }
-        }
+            return true;
+        });
     }
 
 
@@ -52,6 +52,7 @@ public class EffectColdSnap extends AbstractEffect {
         for(Entity e : world.getEntitiesOfClass(LivingEntity.class, new AxisAlignedBB(livingEntity.blockPosition().north(range).east(range).above(range),  livingEntity.blockPosition().south(range).west(range).below(range)))){
             if(e.equals(livingEntity) || !(e instanceof LivingEntity) || e.equals(shooter))
                 continue;
+            SpellMetrics.addEntitiesTouched(1);
             if(canDamage((LivingEntity) e)){
                 vec = e.position();
                 damage(vec, world, shooter, spellStats, damage, snareSec, (LivingEntity) e);
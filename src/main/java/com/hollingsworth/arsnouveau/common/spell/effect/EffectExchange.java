@@ -4,6 +4,7 @@ import com.hollingsworth.arsnouveau.GlyphLib;
 import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockOperationQueue;
 import com.hollingsworth.arsnouveau.api.util.BlockUtil;
 import com.hollingsworth.arsnouveau.api.util.LootUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
@@ -12,6 +13,7 @@ import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAmplify;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentDampen;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentPierce;
 import com.hollingsworth.arsnouveau.setup.BlockRegistry;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.material.Material;
@@ -62,7 +64,7 @@ public class EffectExchange extends AbstractEffect {
 
     @Override
     public void onResolveBlock(BlockRayTraceResult result, World world, @Nullable LivingEntity shooter, SpellStats spellStats, SpellContext spellContext) {
-        List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, result.getBlockPos(), result,  spellStats.getBuffCount(AugmentAOE.INSTANCE),  spellStats.getBuffCount(AugmentPierce.INSTANCE));
+        LongArrayList posList = SpellUtil.calcAOEPositions(shooter, result.getBlockPos(), result,  spellStats.getBuffCount(AugmentAOE.INSTANCE),  spellStats.getBuffCount(AugmentPierce.INSTANCE));
         BlockState origState = world.getBlockState(result.getBlockPos());
         PlayerEntity playerEntity = getPlayer(shooter, (ServerWorld) world);
         List<ItemStack> list = playerEntity.inventory.items;
@@ -75,29 +77,31 @@ public class EffectExchange extends AbstractEffect {
         if(shooter instanceof IPlaceBlockResponder && shooter instanceof IPickupResponder)
             handlers = ((IPlaceBlockResponder) shooter).getInventory();
 
-        Block firstBlock = null;
-        for(BlockPos pos1 : posList) {
+        List<IItemHandler> finalHandlers = handlers;
+        // The first block swapped in decides what every later position is swapped to.
+        Block[] firstBlock = new Block[1];
+        BlockOperationQueue.run(world, posList, spellContext, pos1 -> {
             BlockState state = world.getBlockState(pos1);
 
             if(!canBlockBeHarvested(spellStats, world, pos1) || origState.getBlock() != state.getBlock() ||
                     world.getBlockState(pos1).getMaterial() != Material.AIR && world.getBlockState(pos1).getBlock() == BlockRegistry.INTANGIBLE_AIR
                     || !BlockUtil.destroyRespectsClaim(getPlayer(shooter, (ServerWorld) world), world, pos1)){
-                continue;
+                return true;
             }
             if(isRealPlayer(shooter) && spellContext.castingTile == null) {
-                firstBlock = swapFromInv(list, origState, world, pos1, result, shooter, 9, firstBlock);
+                firstBlock[0] = swapFromInv(list, origState, world, pos1, result, shooter, 9, firstBlock[0]);
             } else if((spellContext.castingTile instanceof IPlaceBlockResponder && spellContext.castingTile instanceof IPickupResponder) || (shooter instanceof IPlaceBlockResponder && shooter instanceof IPickupResponder)){
                 boolean shouldBreak = false;
-                for(IItemHandler i : handlers){
+                for(IItemHandler i : finalHandlers){
                     for(int slot = 0; slot < i.getSlots(); slot++){
                         ItemStack stack = i.getStackInSlot(slot);
                         if(stack.getItem() instanceof BlockItem){
                             BlockItem item = (BlockItem)stack.getItem();
                             if(item.getBlock() == origState.getBlock())
                                 continue;
-                            if(firstBlock == null){
-                                firstBlock = item.getBlock();
-                            }else if(item.getBlock() != firstBlock)
+                            if(firstBlock[0] == null){
+                                firstBlock[0] = item.getBlock();
+                            }else if(item.getBlock() != firstBlock[0])
                                 continue;
                             ItemStack extracted = i.extractItem(slot, 1, false);
                             if(attemptPlace(extracted, world, pos1, result, shooter)) {
@@ -113,7 +117,8 @@ public class EffectExchange extends AbstractEffect {
                 }
 
             }
-        }
+            return true;
+        });
     }
 
     public Block swapFromInv(List<ItemStack> inventory, BlockState origState, World world, BlockPos pos1, BlockRayTraceResult result, LivingEntity shooter, int slots, Block firstBlock){
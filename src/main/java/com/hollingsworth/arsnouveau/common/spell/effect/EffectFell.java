@@ -10,6 +10,7 @@ import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAOE;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAmplify;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentExtract;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentFortune;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.LivingEntity;
@@ -43,11 +44,12 @@ public class EffectFell extends AbstractEffect {
         BlockPos blockPos = ray.getBlockPos();
         BlockState state = world.getBlockState(blockPos);
         if (isTree(state)) {
-            Set<BlockPos> list = getTree(world, blockPos, GENERIC_INT.get()+ AOE_BONUS.get() * spellStats.getBuffCount(AugmentAOE.INSTANCE));
+            LongArrayList list = getTreePositions(world, blockPos, GENERIC_INT.get()+ AOE_BONUS.get() * spellStats.getBuffCount(AugmentAOE.INSTANCE));
             world.levelEvent(2001, blockPos, Block.getId(state));
-            list.forEach(listPos -> {
+            for(int index = 0; index < list.size(); index++){
+                BlockPos listPos = BlockPos.of(list.getLong(index));
                 if (!BlockUtil.destroyRespectsClaim(shooter, world, listPos))
-                    return;
+                    continue;
                 if (spellStats.hasBuff(AugmentExtract.INSTANCE)) {
                     world.getBlockState(listPos).getDrops(LootUtil.getSilkContext((ServerWorld) world, listPos, shooter)).forEach(i -> world.addFreshEntity(new ItemEntity(world, listPos.getX(), listPos.getY(), listPos.getZ(), i)));
                     BlockUtil.destroyBlockSafelyWithoutSound(world, listPos, false);
@@ -59,7 +61,7 @@ public class EffectFell extends AbstractEffect {
                 } else {
                     BlockUtil.destroyBlockSafelyWithoutSound(world, listPos, true);
                 }
-            });
+            }
         }
     }
 
@@ -79,6 +81,10 @@ public class EffectFell extends AbstractEffect {
         return SpellUtil.DFSBlockstates(world, start, maxBlocks, this::isTree);
     }
 
+    public LongArrayList getTreePositions(World world, BlockPos start, int maxBlocks) {
+        return SpellUtil.BFSPositions(world, start, maxBlocks, this::isTree);
+    }
+
 
     @Override
     public int getManaCost() {
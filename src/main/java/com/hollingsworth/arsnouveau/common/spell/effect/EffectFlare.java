@@ -47,6 +47,7 @@ public class EffectFlare extends AbstractEffect {
                     livingEntity.blockPosition().north(range).east(range).above(range),  livingEntity.blockPosition().south(range).west(range).below(range)))){
                 if(e.equals(livingEntity) || !(e instanceof LivingEntity))
                     continue;
+                SpellMetrics.addEntitiesTouched(1);
                 dealDamage(world, shooter, damage, spellStats, e, source);
                 e.setSecondsOnFire(fireSec);
                 vec = e.position();
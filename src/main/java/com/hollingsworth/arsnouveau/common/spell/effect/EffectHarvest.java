@@ -2,6 +2,7 @@ package com.hollingsworth.arsnouveau.common.spell.effect;
 
 import com.hollingsworth.arsnouveau.GlyphLib;
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockOperationQueue;
 import com.hollingsworth.arsnouveau.api.util.LootUtil;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAOE;
@@ -37,7 +38,8 @@ public class EffectHarvest extends AbstractEffect {
 
     @Override
     public void onResolveBlock(BlockRayTraceResult ray, World world, @Nullable LivingEntity shooter, SpellStats spellStats, SpellContext spellContext) {
-        for(BlockPos blockpos : SpellUtil.calcAOEBlocks(shooter, ray.getBlockPos(), ray, spellStats)){
+        BlockOperationQueue.run(world, SpellUtil.calcAOEPositions(shooter, ray.getBlockPos(), ray, spellStats), spellContext, pos -> {
+            BlockPos blockpos = pos;
             BlockState state = world.getBlockState(blockpos);
 
             if(state.getBlock() instanceof FarmlandBlock || world.getBlockState(blockpos.above()).getBlock() instanceof CropsBlock){
@@ -46,11 +48,11 @@ public class EffectHarvest extends AbstractEffect {
             }
 
             if(!(state.getBlock() instanceof CropsBlock))
-                continue;
+                return true;
             CropsBlock cropsBlock = (CropsBlock)world.getBlockState(blockpos).getBlock();
 
             if(!cropsBlock.isMaxAge(state) || !(world instanceof ServerWorld))
-                continue;
+                return true;
 
             List<ItemStack> cropDrops = Block.getDrops(state, (ServerWorld)world, blockpos, world.getBlockEntity(blockpos));
 
@@ -65,7 +67,8 @@ public class EffectHarvest extends AbstractEffect {
                 world.addFreshEntity(new ItemEntity(world, finalBlockpos.getX(), finalBlockpos.getY(), finalBlockpos.getZ(), d));
             });
             world.setBlockAndUpdate(blockpos,cropsBlock.getStateForAge(1));
-        }
+            return true;
+        });
     }
 
     @Override
@@ -44,6 +44,7 @@ public class EffectPhantomBlock extends AbstractEffect {
                     tile.color = spellContext.colors.toParticleColor();
                     tile.lengthModifier = spellStats.getDurationMultiplier();
                     tile.isPermanent = spellStats.hasBuff(AugmentAmplify.INSTANCE);
+                    tile.startExpiry();
                     world.sendBlockUpdated(pos, world.getBlockState(pos), world.getBlockState(pos), 2);
                 }
             }
@@ -34,6 +34,7 @@ public class EffectPickup extends AbstractEffect {
 
         List<ItemEntity> entityList = world.getEntitiesOfClass(ItemEntity.class, new AxisAlignedBB(pos.east(expansion).north(expansion).above(expansion),
                 pos.west(expansion).south(expansion).below(expansion)));
+        SpellMetrics.addEntitiesTouched(entityList.size());
         for(ItemEntity i : entityList){
 
             if(isRealPlayer(shooter) && spellContext.castingTile == null){
@@ -3,10 +3,12 @@ package com.hollingsworth.arsnouveau.common.spell.effect;
 import com.hollingsworth.arsnouveau.GlyphLib;
 import com.hollingsworth.arsnouveau.api.ANFakePlayer;
 import com.hollingsworth.arsnouveau.api.spell.*;
+import com.hollingsworth.arsnouveau.api.util.BlockOperationQueue;
 import com.hollingsworth.arsnouveau.api.util.SpellUtil;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentAOE;
 import com.hollingsworth.arsnouveau.common.spell.augment.AugmentPierce;
 import com.hollingsworth.arsnouveau.common.spell.method.MethodTouch;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.LivingEntity;
@@ -38,14 +40,16 @@ public class EffectPlaceBlock extends AbstractEffect {
 
     @Override
     public void onResolveBlock(BlockRayTraceResult rayTraceResult, World world, @Nullable LivingEntity shooter, SpellStats spellStats, SpellContext spellContext) {
-        List<BlockPos> posList = SpellUtil.calcAOEBlocks(shooter, rayTraceResult.getBlockPos(), rayTraceResult, spellStats);
-        BlockRayTraceResult result = rayTraceResult;
-        for(BlockPos pos1 : posList) {
+        LongArrayList posList = SpellUtil.calcAOEPositions(shooter, rayTraceResult.getBlockPos(), rayTraceResult, spellStats);
+        // Responders that hit a solid block keep placing against the shifted result for the rest of the area.
+        BlockRayTraceResult[] shifted = {rayTraceResult};
+        BlockOperationQueue.run(world, posList, spellContext, pos1 -> {
+            BlockRayTraceResult result = shifted[0];
             BlockPos hitPos = result.isInside() ? pos1 : pos1.relative(result.getDirection());
             if(spellContext.castingTile instanceof IPlaceBlockResponder){
                 ItemStack stack = ((IPlaceBlockResponder) spellContext.castingTile).onPlaceBlock();
                 if(stack.isEmpty() || !(stack.getItem() instanceof BlockItem))
-                    return;
+                    return false;
 
                 BlockItem item = (BlockItem) stack.getItem();
                 FakePlayer fakePlayer = ANFakePlayer.getPlayer((ServerWorld) world);
@@ -55,7 +59,7 @@ public class EffectPlaceBlock extends AbstractEffect {
                 boolean isTouch = spellContext.getSpell().recipe.get(0) instanceof MethodTouch;
                 BlockState blockTargetted = isTouch ? world.getBlockState(hitPos.relative(result.getDirection().getOpposite())) : world.getBlockState(hitPos.relative(result.getDirection()));
                 if(blockTargetted.getMaterial() != Material.AIR)
-                    continue;
+                    return true;
                 // Special offset because we are placing a block against the face we are looking at (in the case of touch)
                 Direction direction = isTouch ? result.getDirection().getOpposite() : result.getDirection();
                 BlockItemUseContext context = BlockItemUseContext.at(new BlockItemUseContext(new ItemUseContext(fakePlayer, Hand.MAIN_HAND, result)),
@@ -64,17 +68,18 @@ public class EffectPlaceBlock extends AbstractEffect {
             }else if(shooter instanceof IPlaceBlockResponder){
                 ItemStack stack = ((IPlaceBlockResponder) shooter).onPlaceBlock();
                 if(stack.isEmpty() || !(stack.getItem() instanceof BlockItem))
-                    return;
+                    return false;
                 BlockItem item = (BlockItem) stack.getItem();
                 if(world.getBlockState(hitPos).getMaterial() != Material.AIR){
                     result = new BlockRayTraceResult(result.getLocation().add(0, 1, 0), Direction.UP, result.getBlockPos(),false);
+                    shifted[0] = result;
                 }
                 attemptPlace(world, stack, item, result);
             }else if(shooter instanceof PlayerEntity){
                 PlayerEntity playerEntity = (PlayerEntity) shooter;
                 NonNullList<ItemStack> list =  playerEntity.inventory.items;
                 if(!world.getBlockState(hitPos).getMaterial().isReplaceable())
-                    continue;
+                    return true;
                 for(int i = 0; i < 9; i++){
                     ItemStack stack = list.get(i);
                     if(stack.getItem() instanceof BlockItem && world instanceof ServerWorld){
@@ -87,7 +92,8 @@ public class EffectPlaceBlock extends AbstractEffect {
                     }
                 }
             }
-        }
+            return true;
+        });
     }
 
     @Override
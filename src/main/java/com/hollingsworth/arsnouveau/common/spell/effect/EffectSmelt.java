@@ -84,6 +84,7 @@ public class EffectSmelt extends AbstractEffect {
 
 
     public void smeltItems(World world, List<ItemEntity> itemEntities, int maxItemSmelt){
+        SpellMetrics.addEntitiesTouched(itemEntities.size());
         int numSmelted = 0;
         for (ItemEntity itemEntity : itemEntities) {
             if (numSmelted > maxItemSmelt)
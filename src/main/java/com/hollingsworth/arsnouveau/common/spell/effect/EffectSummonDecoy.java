@@ -14,6 +14,7 @@ import net.minecraftforge.common.ForgeConfigSpec;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.List;
 import java.util.Set;
 
 public class EffectSummonDecoy extends AbstractEffect {
@@ -32,7 +33,9 @@ public class EffectSummonDecoy extends AbstractEffect {
             dummy.setPos(pos.x, pos.y + 1, pos.z);
             dummy.setOwnerID(shooter.getUUID());
             summonLivingEntity(rayTraceResult, world, shooter, spellStats, spellContext, dummy);
-            world.getEntitiesOfClass(MobEntity.class, dummy.getBoundingBox().inflate(20, 10, 20)).forEach(l -> l.setTarget(dummy));
+            List<MobEntity> mobs = world.getEntitiesOfClass(MobEntity.class, dummy.getBoundingBox().inflate(20, 10, 20));
+            mobs.forEach(l -> l.setTarget(dummy));
+            SpellMetrics.addEntitiesTouched(mobs.size());
         }
     }
 
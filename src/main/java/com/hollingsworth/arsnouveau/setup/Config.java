@@ -3,7 +3,9 @@ package com.hollingsworth.arsnouveau.setup;
 import com.hollingsworth.arsnouveau.ArsNouveau;
 import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
 import com.hollingsworth.arsnouveau.api.RegistryHelper;
+import com.hollingsworth.arsnouveau.api.mana.ManaStats;
 import com.hollingsworth.arsnouveau.api.spell.AbstractSpellPart;
+import com.hollingsworth.arsnouveau.api.spell.CompiledSpell;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -42,6 +44,13 @@ public class Config {
 
 
     public static ForgeConfigSpec.IntValue REGEN_INTERVAL;
+    public static ForgeConfigSpec.IntValue MANA_TILE_SYNC_INTERVAL;
+    public static ForgeConfigSpec.IntValue MANA_SYNC_INTERVAL;
+    public static ForgeConfigSpec.IntValue AOE_BLOCKS_PER_TICK;
+    public static ForgeConfigSpec.IntValue AOE_TICK_BUDGET;
+    public static ForgeConfigSpec.IntValue PATHFINDING_THREADS;
+    public static ForgeConfigSpec.IntValue PATHFINDING_QUEUE_SIZE;
+    public static ForgeConfigSpec.IntValue TURRET_FIRES_PER_CHUNK;
     public static ForgeConfigSpec.IntValue CARBUNCLE_WEIGHT;
     public static ForgeConfigSpec.IntValue SYLPH_WEIGHT;
     public static ForgeConfigSpec.IntValue DRYGMY_WEIGHT;
@@ -53,6 +62,9 @@ public class Config {
     public static ForgeConfigSpec.IntValue DRYGMY_BASE_ITEM;
     public static ForgeConfigSpec.IntValue DRYGMY_UNIQUE_BONUS;
     public static ForgeConfigSpec.IntValue DRYGMY_QUANTITY_CAP;
+    public static ForgeConfigSpec.IntValue DRYGMY_SAMPLE_ROLLS;
+    public static ForgeConfigSpec.IntValue DRYGMY_SAMPLE_REFRESH;
+    public static ForgeConfigSpec.IntValue DRYGMY_SAMPLE_ENTITIES;
 
     public static ForgeConfigSpec.IntValue WGUARDIAN_WEIGHT;
     public static ForgeConfigSpec.IntValue WSTALKER_WEIGHT;
@@ -118,6 +130,16 @@ public class Config {
         GUARDIAN_ATTACK_ANIMALS = SERVER_BUILDER.comment("Should the Wilden Defender attack animals?").define("defenderHuntsAnimals", false);
         ARCHWOOD_FOREST_WEIGHT = SERVER_BUILDER.comment("Archwood forest spawn weight").defineInRange("archwoodForest", 3, 0, Integer.MAX_VALUE);
         CRYSTALLIZER_ITEM = SERVER_BUILDER.comment("Crystallizer output item. Do not use a wrong ID!").define("crystallizer_output", "ars_nouveau:mana_gem");
+        AOE_BLOCKS_PER_TICK = SERVER_BUILDER.comment("Max blocks that area spells like Break, Exchange, Place Block and Harvest change per world per tick, shared by every cast. Blocks over the limit are finished on later ticks in cast order. Spells with more effects after the area effect always finish right away.")
+                .defineInRange("aoeBlocksPerTick", 128, 1, 4096);
+        AOE_TICK_BUDGET = SERVER_BUILDER.comment("Max milliseconds per world per tick spent finishing area spells deferred from earlier ticks.")
+                .defineInRange("aoeTickBudget", 10, 1, 50);
+        PATHFINDING_THREADS = SERVER_BUILDER.comment("Number of worker threads computing paths for Carbuncles, Sylphs, Wixies, Drygmys and Bookwyrms.")
+                .defineInRange("pathfindingThreads", Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), 1, 16);
+        PATHFINDING_QUEUE_SIZE = SERVER_BUILDER.comment("Max path requests waiting for a worker. When full, requests far from players are dropped and retried later by their entity.")
+                .defineInRange("pathfindingQueueSize", 512, 16, 8192);
+        TURRET_FIRES_PER_CHUNK = SERVER_BUILDER.comment("Max spell turrets that may fire per chunk per tick. Remaining turrets fire on the next ticks.")
+                .defineInRange("turretFiresPerChunk", 64, 1, 4096);
         SERVER_BUILDER.pop();
         SERVER_BUILDER.push(DRYGMY_CATEGORY);
         DRYGMY_MANA_COST = SERVER_BUILDER.comment("How much mana drygmys consume per generation").defineInRange("drygmyManaCost",1000,0,10000);
@@ -125,6 +147,9 @@ public class Config {
         DRYGMY_UNIQUE_BONUS = SERVER_BUILDER.comment("Bonus number of items a drygmy produces per unique mob").defineInRange("drygmyUniqueBonus",2,0,300);
         DRYGMY_BASE_ITEM = SERVER_BUILDER.comment("Base number of items a drygmy produces per cycle before bonuses.").defineInRange("drygmyBaseItems",1,Integer.MIN_VALUE,Integer.MAX_VALUE);
         DRYGMY_QUANTITY_CAP = SERVER_BUILDER.comment("Max Bonus number of items a drygmy produces from nearby entities. Each entity equals 1 item.").defineInRange("drygmyQuantityCap",5,0,300);
+        DRYGMY_SAMPLE_ROLLS = SERVER_BUILDER.comment("How many times a mob's loot table is rolled to sample its drops. Higher is more accurate but slower to refresh.").defineInRange("drygmySampleRolls",16,1,256);
+        DRYGMY_SAMPLE_REFRESH = SERVER_BUILDER.comment("How often, in ticks, the sampled drops of a mob type are rolled again").defineInRange("drygmySampleRefresh",6000,20,72000);
+        DRYGMY_SAMPLE_ENTITIES = SERVER_BUILDER.comment("How many mobs of each type, picked at random, a mob type's drops are sampled from. Higher represents mixed pens like sheep colors better but is slower to refresh.").defineInRange("drygmySampleEntities",8,1,64);
 
         SERVER_BUILDER.pop();
         SERVER_BUILDER.comment("Mana").push("mana");
@@ -138,6 +163,10 @@ public class Config {
         MANA_REGEN_ENCHANT_BONUS = SERVER_BUILDER.comment("(enchantment) Mana regen per second per level").defineInRange("manaRegenEnchantment", 2, 0, Integer.MAX_VALUE);
         GLYPH_REGEN_BONUS = SERVER_BUILDER.comment("Regen bonus per glyph").defineInRange("glyphRegen", 0.33, 0.0, Integer.MAX_VALUE);
         MANA_REGEN_POTION = SERVER_BUILDER.comment("Regen bonus per potion level").defineInRange("potionRegen", 10, 0, Integer.MAX_VALUE);
+        MANA_TILE_SYNC_INTERVAL = SERVER_BUILDER.comment("Minimum ticks between source updates sent to clients for a single jar, relay or sourcelink. Changes in between are sent together.")
+                .defineInRange("tileSyncInterval", 10, 1, 200);
+        MANA_SYNC_INTERVAL = SERVER_BUILDER.comment("Minimum ticks between mana updates sent to a player. The mana bar is smoothed between updates.")
+                .defineInRange("playerSyncInterval", 5, 1, 100);
         SERVER_BUILDER.pop();
 
         SERVER_CONFIG = SERVER_BUILDER.build();
@@ -152,5 +181,8 @@ public class Config {
     public static void onLoad(final ModConfig.Loading configEvent) { }
 
     @SubscribeEvent
-    public static void onReload(final ModConfig.Reloading configEvent) { }
+    public static void onReload(final ModConfig.Reloading configEvent) {
+        ManaStats.invalidateAll();
+        CompiledSpell.clearCache();
+    }
 }
@@ -0,0 +1,123 @@
+package com.hollingsworth.arsnouveau.api.spell;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledSpellTest {
+    private static final AbstractEffect BREAK = new TestSpellParts.Effect("test_break", 10);
+    private static final AbstractEffect HARM = new TestSpellParts.Effect("test_harm", 20);
+    private static final AbstractAugment AMPLIFY = new TestSpellParts.Augment("test_amplify", 5);
+    private static final AbstractAugment AOE = new TestSpellParts.Augment("test_aoe", 3);
+
+    private static List<AbstractSpellPart> recipe(){
+        return new ArrayList<>(Arrays.asList(BREAK, AMPLIFY, AMPLIFY, AOE, HARM, AOE));
+    }
+
+    @Test
+    public void augmentsAreTheRunFollowingEachGlyph(){
+        CompiledSpell plan = new CompiledSpell(recipe());
+        assertEquals(Arrays.asList(AMPLIFY, AMPLIFY, AOE), plan.getAugments(0));
+        assertEquals(Collections.singletonList(AOE), plan.getAugments(4));
+        assertEquals(Collections.emptyList(), plan.getAugments(5));
+        assertEquals(Collections.emptyList(), plan.getAugments(-1));
+        assertEquals(Collections.emptyList(), plan.getAugments(6));
+    }
+
+    @Test
+    public void buffCountsOnlyCountTheFollowingRun(){
+        CompiledSpell plan = new CompiledSpell(recipe());
+        assertEquals(2, plan.getBuffCount(0, AMPLIFY));
+        assertEquals(1, plan.getBuffCount(0, AOE));
+        assertEquals(0, plan.getBuffCount(4, AMPLIFY));
+        assertEquals(1, plan.getBuffCount(4, AOE));
+        assertEquals(0, plan.getBuffCount(6, AOE));
+    }
+
+    @Test
+    public void costsIncludeTheAugmentsOfEachGlyph(){
+        CompiledSpell plan = new CompiledSpell(recipe());
+        assertEquals(10 + 5 + 5 + 3, plan.getAdjustedCost(0));
+        assertEquals(0, plan.getAdjustedCost(1));
+        assertEquals(20 + 3, plan.getAdjustedCost(4));
+        assertEquals(23 + 23, plan.getTotalCost());
+        assertArrayEquals(new AbstractEffect[]{BREAK, HARM}, plan.getEffects());
+    }
+
+    @Test
+    public void matchesSamePartsInSameOrderOnly(){
+        CompiledSpell plan = new CompiledSpell(recipe());
+        assertTrue(plan.matches(recipe()));
+
+        List<AbstractSpellPart> reordered = recipe();
+        Collections.swap(reordered, 0, 4);
+        assertFalse(plan.matches(reordered));
+
+        List<AbstractSpellPart> longer = recipe();
+        longer.add(AOE);
+        assertFalse(plan.matches(longer));
+
+        // Parts are compared by identity, not by tag.
+        List<AbstractSpellPart> lookalike = recipe();
+        lookalike.set(0, new TestSpellParts.Effect("test_break", 10));
+        assertFalse(plan.matches(lookalike));
+    }
+
+    @Test
+    public void spellRecompilesAfterItsRecipeChanges(){
+        Spell spell = new Spell(recipe());
+        CompiledSpell first = spell.getCompiled();
+        assertSame(first, spell.getCompiled());
+
+        spell.recipe.add(AMPLIFY);
+        CompiledSpell second = spell.getCompiled();
+        assertNotSame(first, second);
+        assertTrue(second.matches(spell.recipe));
+        assertEquals(1, second.getBuffCount(4, AMPLIFY));
+    }
+
+    @Test
+    public void equalRecipesShareOneInternedPlan(){
+        List<AbstractSpellPart> first = recipe();
+        CompiledSpell plan = CompiledSpell.of(first);
+        assertSame(plan, CompiledSpell.of(recipe()));
+        assertSame(plan, new Spell(recipe()).getCompiled());
+
+        // The interned key is a copy, changing the source list does not change the plan.
+        first.add(HARM);
+        assertTrue(plan.matches(recipe()));
+        assertNotSame(plan, CompiledSpell.of(first));
+    }
+
+    @Test
+    public void validationRunsOncePerInternedPlan(){
+        AtomicInteger runs = new AtomicInteger();
+        ISpellValidator validator = recipe -> {
+            runs.incrementAndGet();
+            return Collections.emptyList();
+        };
+        new Spell(recipe()).getCompiled().validate(validator);
+        new Spell(recipe()).getCompiled().validate(validator);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void clearingTheCacheOutdatesPlansSpellsHold(){
+        Spell spell = new Spell(recipe());
+        CompiledSpell before = spell.getCompiled();
+        assertTrue(before.isCurrent());
+
+        CompiledSpell.clearCache();
+        assertFalse(before.isCurrent());
+        CompiledSpell after = spell.getCompiled();
+        assertNotSame(before, after);
+        assertTrue(after.isCurrent());
+        assertSame(after, CompiledSpell.of(recipe()));
+    }
+}
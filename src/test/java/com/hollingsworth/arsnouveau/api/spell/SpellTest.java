@@ -0,0 +1,97 @@
+package com.hollingsworth.arsnouveau.api.spell;
+
+import com.hollingsworth.arsnouveau.api.ArsNouveauAPI;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.StringNBT;
+import net.minecraftforge.common.util.Constants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpellTest {
+    private static final AbstractEffect PROJECTILE = new TestSpellParts.Effect("test_nbt_projectile", 5);
+    private static final AbstractEffect BREAK = new TestSpellParts.Effect("test_nbt_break", 10);
+    private static final AbstractAugment AMPLIFY = new TestSpellParts.Augment("test_nbt_amplify", 5);
+
+    @BeforeAll
+    public static void registerGlyphs(){
+        // Straight into the map, registerSpell also creates the glyph item.
+        for(AbstractSpellPart part : Arrays.asList(PROJECTILE, BREAK, AMPLIFY)){
+            ArsNouveauAPI.getInstance().getSpell_map().put(part.getTag(), part);
+        }
+    }
+
+    private static Spell spell(){
+        return new Spell(PROJECTILE, BREAK, AMPLIFY, AMPLIFY, AMPLIFY, BREAK);
+    }
+
+    @Test
+    public void roundTripKeepsEveryGlyphInOrder(){
+        CompoundNBT tag = new CompoundNBT();
+        spell().writeToTag(tag, "spell");
+        assertEquals(spell().recipe, Spell.readFromTag(tag, "spell").recipe);
+    }
+
+    @Test
+    public void repeatedGlyphsAreStoredOnce(){
+        CompoundNBT tag = new CompoundNBT();
+        spell().writeToTag(tag, "spell");
+        CompoundNBT spellTag = tag.getCompound("spell");
+        assertEquals(3, spellTag.getList("glyphs", Constants.NBT.TAG_STRING).size());
+        assertEquals(6, spellTag.getByteArray("order").length);
+    }
+
+    @Test
+    public void emptySpellRoundTrips(){
+        CompoundNBT tag = new CompoundNBT();
+        new Spell().writeToTag(tag, "spell");
+        assertTrue(Spell.readFromTag(tag, "spell").isEmpty());
+    }
+
+    @Test
+    public void legacyStringTagsAreStillRead(){
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("spell", spell().serialize());
+        assertEquals(spell().recipe, Spell.readFromTag(tag, "spell").recipe);
+
+        tag.putString("spell", "[]");
+        assertTrue(Spell.readFromTag(tag, "spell").isEmpty());
+    }
+
+    @Test
+    public void unknownGlyphsAreDropped(){
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("legacy", "[test_nbt_projectile, removed_addon_glyph, test_nbt_break]");
+        assertEquals(Arrays.asList(PROJECTILE, BREAK), Spell.readFromTag(tag, "legacy").recipe);
+
+        CompoundNBT spellTag = new CompoundNBT();
+        ListNBT glyphs = new ListNBT();
+        glyphs.add(StringNBT.valueOf("test_nbt_projectile"));
+        glyphs.add(StringNBT.valueOf("removed_addon_glyph"));
+        spellTag.put("glyphs", glyphs);
+        // Index 5 points past the table and is dropped too.
+        spellTag.putByteArray("order", new byte[]{0, 1, 0, 5});
+        tag.put("binary", spellTag);
+        assertEquals(Arrays.asList(PROJECTILE, PROJECTILE), Spell.readFromTag(tag, "binary").recipe);
+    }
+
+    @Test
+    public void readsOfTheSameTagDoNotShareRecipes(){
+        CompoundNBT tag = new CompoundNBT();
+        spell().writeToTag(tag, "spell");
+        Spell first = Spell.readFromTag(tag, "spell");
+        Spell second = Spell.readFromTag(tag, "spell");
+        first.recipe.clear();
+        assertEquals(spell().recipe, second.recipe);
+    }
+
+    @Test
+    public void missingTagReadsAsEmptySpell(){
+        assertEquals(Collections.emptyList(), Spell.readFromTag(new CompoundNBT(), "spell").recipe);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hollingsworth.arsnouveau.api.spell;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Glyphs with fixed costs for tests. They are not registered anywhere unless a test does so.
+ */
+public class TestSpellParts {
+
+    public static class Effect extends AbstractEffect {
+        private final int cost;
+
+        public Effect(String tag, int cost){
+            super(tag, tag);
+            this.cost = cost;
+        }
+
+        @Override
+        public int getManaCost(){
+            return cost;
+        }
+
+        @Nonnull
+        @Override
+        public Set<AbstractAugment> getCompatibleAugments(){
+            return augmentSetOf();
+        }
+    }
+
+    public static class Augment extends AbstractAugment {
+        private final int cost;
+
+        public Augment(String tag, int cost){
+            super(tag, tag);
+            this.cost = cost;
+        }
+
+        @Override
+        public int getManaCost(){
+            return cost;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hollingsworth.arsnouveau.api.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DropDistributionTest {
+    private static final int DRAWS = 200_000;
+
+    @BeforeEach
+    public void seed(){
+        DropDistribution.rand.setSeed(1234L);
+    }
+
+    @Test
+    public void emptyDistributionDrawsNothing(){
+        DropDistribution<String> drops = new DropDistribution<>(new HashMap<>());
+        assertTrue(drops.isEmpty());
+        assertNull(drops.nextDrop());
+    }
+
+    @Test
+    public void nonPositiveWeightsAreIgnored(){
+        Map<String, Integer> weights = new HashMap<>();
+        weights.put("zero", 0);
+        weights.put("negative", -3);
+        weights.put("none", null);
+        assertTrue(new DropDistribution<>(weights).isEmpty());
+
+        weights.put("only", 2);
+        DropDistribution<String> drops = new DropDistribution<>(weights);
+        assertFalse(drops.isEmpty());
+        for(int i = 0; i < 1000; i++){
+            assertEquals("only", drops.nextDrop());
+        }
+    }
+
+    @Test
+    public void drawsFollowTheWeights(){
+        Map<String, Integer> weights = new HashMap<>();
+        weights.put("rare", 1);
+        weights.put("uncommon", 3);
+        weights.put("common", 6);
+        weights.put("never", 0);
+        assertFrequencies(weights, 10);
+    }
+
+    @Test
+    public void drawsFollowSkewedWeights(){
+        // Many light entries paired against one heavy entry exercises the alias table the most.
+        Map<Integer, Integer> weights = new HashMap<>();
+        int total = 0;
+        for(int i = 0; i < 20; i++){
+            weights.put(i, 1);
+            total++;
+        }
+        weights.put(100, 80);
+        total += 80;
+        assertFrequencies(weights, total);
+    }
+
+    private static <T> void assertFrequencies(Map<T, Integer> weights, int total){
+        DropDistribution<T> drops = new DropDistribution<>(weights);
+        Map<T, Integer> counts = new HashMap<>();
+        for(int i = 0; i < DRAWS; i++){
+            counts.merge(drops.nextDrop(), 1, Integer::sum);
+        }
+        for(Map.Entry<T, Integer> entry : weights.entrySet()){
+            double expected = (double) Math.max(0, entry.getValue()) / total;
+            double actual = (double) counts.getOrDefault(entry.getKey(), 0) / DRAWS;
+            assertEquals(expected, actual, 0.01, "frequency of " + entry.getKey());
+        }
+        assertFalse(counts.containsKey(null));
+    }
+}
@@ -0,0 +1,107 @@
+package com.hollingsworth.arsnouveau.common.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeHeapTest {
+
+    private static Node node(int x, double score){
+        return new Node(null, new BlockPos(x, 64, 0), 0, 0, score);
+    }
+
+    @Test
+    public void pollsInScoreOrder(){
+        NodeHeap heap = new NodeHeap(2);
+        Random random = new Random(42);
+        List<Node> nodes = new ArrayList<>();
+        for(int i = 0; i < 200; i++){
+            Node node = node(i, random.nextInt(50));
+            node.setCounterAdded(i);
+            nodes.add(node);
+            heap.offer(node);
+        }
+        assertEquals(200, heap.size());
+
+        Node previous = null;
+        while(!heap.isEmpty()){
+            Node next = heap.poll();
+            assertFalse(heap.contains(next));
+            if(previous != null)
+                assertTrue(previous.compareTo(next) <= 0);
+            previous = next;
+        }
+        assertNull(heap.poll());
+        for(Node node : nodes){
+            assertFalse(heap.contains(node));
+        }
+    }
+
+    @Test
+    public void tiesGoToTheOlderNode(){
+        NodeHeap heap = new NodeHeap(4);
+        Node older = node(0, 5);
+        older.setCounterAdded(1);
+        Node newer = node(1, 5);
+        newer.setCounterAdded(2);
+        heap.offer(newer);
+        heap.offer(older);
+        assertSame(older, heap.poll());
+        assertSame(newer, heap.poll());
+    }
+
+    @Test
+    public void decreaseKeyMovesTheNodeUp(){
+        NodeHeap heap = new NodeHeap(8);
+        Node a = node(0, 10);
+        Node b = node(1, 20);
+        Node c = node(2, 30);
+        heap.offer(a);
+        heap.offer(b);
+        heap.offer(c);
+
+        c.setScore(5);
+        heap.decreaseKey(c);
+        assertSame(c, heap.poll());
+        assertSame(a, heap.poll());
+        assertSame(b, heap.poll());
+    }
+
+    @Test
+    public void containsOnlyQueuedNodes(){
+        NodeHeap heap = new NodeHeap(4);
+        Node queued = node(0, 1);
+        Node other = node(1, 2);
+        heap.offer(queued);
+        assertTrue(heap.contains(queued));
+        assertFalse(heap.contains(other));
+    }
+
+    @Test
+    public void clearForgetsEveryNode(){
+        NodeHeap heap = new NodeHeap(2);
+        List<Node> nodes = new ArrayList<>();
+        for(int i = 0; i < 10; i++){
+            Node node = node(i, i);
+            nodes.add(node);
+            heap.offer(node);
+        }
+        heap.clear(4);
+        assertTrue(heap.isEmpty());
+        assertNull(heap.poll());
+        for(Node node : nodes){
+            assertFalse(heap.contains(node));
+        }
+
+        // The heap is still usable after shrinking.
+        heap.offer(nodes.get(3));
+        heap.offer(nodes.get(1));
+        assertSame(nodes.get(1), heap.poll());
+        assertSame(nodes.get(3), heap.poll());
+    }
+}